@@ -14,3 +14,9 @@ dependencies {
     api("net.kyori:adventure-key")
     jmh("net.kyori:adventure-key")
 }
+
+jmh {
+    // machine readable, so that runs can be compared over time
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
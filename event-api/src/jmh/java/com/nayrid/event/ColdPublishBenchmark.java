@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.testdata.CountingEvent;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures single publishes that cannot use an already linked dispatcher: the first publish on
+ * a new bus, which also resolves the dispatch of the event type, and the first
+ * publish after a subscription changed.
+ *
+ * <p>Each iteration uses fresh buses, so these are cold for the bus but not for the JVM. Run with
+ * many forks and no warmup to include class loading and interpretation as well.</p>
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 100)
+@Measurement(iterations = 1000)
+public class ColdPublishBenchmark {
+
+    @Param({"1", "10", "100"}) private int subscriberCount;
+
+    private SimpleEventBus newBus;
+    private SimpleEventBus changedBus;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        this.newBus = this.createBus();
+        this.changedBus = this.createBus();
+        this.changedBus.publish(new CountingEvent());
+        this.changedBus.subscribe(CountingEvent.class, event -> {
+        }, 8);
+    }
+
+    private SimpleEventBus createBus() {
+        final SimpleEventBus bus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            bus.subscribe(CountingEvent.class, event -> {
+            }, i % 16);
+        }
+        return bus;
+    }
+
+    @Benchmark
+    public void benchmarkFirstPublish() {
+        this.newBus.publish(new CountingEvent());
+    }
+
+    @Benchmark
+    public void benchmarkFirstPublishAfterSubscribe() {
+        this.changedBus.publish(new CountingEvent());
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.testdata.CountingEvent;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Publishes from three threads while a fourth keeps subscribing and unsubscribing to the same
+ * event type, so that every publish races with a dispatcher rebuild.
+ *
+ * <p>JMH reports the publishers and the churning thread separately, next to the score of the
+ * group as a whole.</p>
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentChurnBenchmark {
+
+    @Param({"1", "10", "100"}) private int subscriberCount;
+
+    private SimpleEventBus bus;
+    private final CountingEvent event = new CountingEvent();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.bus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            this.bus.subscribe(CountingEvent.class, event -> {
+            }, i % 16);
+        }
+        this.bus.publish(this.event);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(3)
+    public void publish() {
+        this.bus.publish(this.event);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void subscribeUnsubscribe() {
+        final EventSubscriber<CountingEvent> subscriber = event -> {
+        };
+        this.bus.subscribe(CountingEvent.class, subscriber, 8);
+        this.bus.unsubscribe(CountingEvent.class, subscriber);
+    }
+
+}
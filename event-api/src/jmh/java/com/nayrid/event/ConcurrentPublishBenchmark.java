@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.RingBufferEventBus;
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.RingBufferConfig;
+import com.nayrid.event.bus.config.RingBufferConfig.BackpressurePolicy;
+import com.nayrid.event.testdata.CountingEvent;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Publishes from 1, 4, 16 and 64 threads at once, to show how publishing scales with the number
+ * of cores, and where threads contend.
+ *
+ * <p>Every benchmark publishes a single preallocated event, so that the dispatch path is all
+ * there is in the hot loop. Run with {@code -prof perfasm} to attribute cycles to instructions,
+ * where false sharing shows up as hot loads of fields that are never written while
+ * publishing.</p>
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentPublishBenchmark {
+
+    @Param({"1", "10"}) private int subscriberCount;
+
+    private final CountingEvent event = new CountingEvent();
+    private SimpleEventBus sharedBus;
+    private SimpleEventBus instrumentedBus;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.sharedBus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        this.instrumentedBus = SimpleEventBus.create(
+            EventBusConfig.eventBusConfig().instrumented(true).build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            this.sharedBus.subscribe(CountingEvent.class, event -> {
+            });
+            this.instrumentedBus.subscribe(CountingEvent.class, event -> {
+            });
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void benchmarkPublish1() {
+        this.sharedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void benchmarkPublish4() {
+        this.sharedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void benchmarkPublish16() {
+        this.sharedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void benchmarkPublish64() {
+        this.sharedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void benchmarkInstrumentedPublish1() {
+        this.instrumentedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void benchmarkInstrumentedPublish4() {
+        this.instrumentedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void benchmarkInstrumentedPublish16() {
+        this.instrumentedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void benchmarkInstrumentedPublish64() {
+        this.instrumentedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void benchmarkRingBufferPublish1(final RingBufferState state) {
+        state.bus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void benchmarkRingBufferPublish4(final RingBufferState state) {
+        state.bus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void benchmarkRingBufferPublish16(final RingBufferState state) {
+        state.bus.publish(this.event);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void benchmarkRingBufferPublish64(final RingBufferState state) {
+        state.bus.publish(this.event);
+    }
+
+    /**
+     * The ring buffer bus, in a state of its own so that its consumer threads do not compete for
+     * cores with the benchmarks publishing to the other buses.
+     */
+    @State(Scope.Benchmark)
+    public static class RingBufferState {
+
+        RingBufferEventBus bus;
+
+        @Setup(Level.Trial)
+        public void setup(final ConcurrentPublishBenchmark benchmark) {
+            this.bus = RingBufferEventBus.create(EventBusConfig.eventBusConfig().build(),
+                RingBufferConfig.ringBufferConfig()
+                    .capacity(65_536)
+                    .consumers(2)
+                    .backpressurePolicy(BackpressurePolicy.DROP)
+                    .build());
+            for (int i = 0; i < benchmark.subscriberCount; i++) {
+                this.bus.subscribe(CountingEvent.class, event -> {
+                });
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.bus.close();
+        }
+
+    }
+
+}
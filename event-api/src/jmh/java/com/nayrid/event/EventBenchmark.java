@@ -23,22 +23,37 @@
  */
 package com.nayrid.event;
 
+import com.nayrid.event.bus.EventBus.BatchOrder;
+import com.nayrid.event.bus.EventBus.EventRegistration;
+import com.nayrid.event.bus.RingBufferEventBus;
 import com.nayrid.event.bus.SimpleEventBus;
 import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.config.RingBufferConfig;
+import com.nayrid.event.bus.config.RingBufferConfig.WaitStrategy;
 import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.EventSubscription;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
 import com.nayrid.event.testdata.CancellationEvent;
 import com.nayrid.event.testdata.CountingEvent;
+import com.nayrid.event.testdata.ZoneEvent;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.key.Key;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 
 @SuppressWarnings("NotNullFieldNotInitialized")
@@ -46,13 +61,29 @@ import org.openjdk.jmh.annotations.Threads;
 @State(Scope.Benchmark)
 public class EventBenchmark {
 
+    private static final int BATCH_SIZE = 1000;
+
     @Param({"1", "10", "100"}) private int subscriberCount;
 
     private SimpleEventBus baselineBus;
+    private SimpleEventBus instrumentedBus;
+    private SimpleEventBus pooledBus;
     private SimpleEventBus cancellingBus;
+    private SimpleEventBus indexedZoneBus;
+    private SimpleEventBus filteredZoneBus;
+    private final ZoneEvent zoneEvent = new ZoneEvent(0);
+    private List<CountingEvent> batch;
+    private Key registrationKey;
+    private int registrationId;
+    private final CountingEvent preallocatedEvent = new CountingEvent();
 
     @Setup(Level.Iteration)
     public void setup() {
+        this.batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.batch.add(new CountingEvent());
+        }
+
         this.baselineBus = SimpleEventBus.create(
             EventBusConfig.eventBusConfig().acceptsCancelled(true).build());
         for (int i = 0; i < this.subscriberCount; i++) {
@@ -60,6 +91,28 @@ public class EventBenchmark {
             });
         }
 
+        this.instrumentedBus = SimpleEventBus.create(
+            EventBusConfig.eventBusConfig().acceptsCancelled(true).instrumented(true).build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            this.instrumentedBus.subscribe(CountingEvent.class, event -> {
+            });
+        }
+
+        this.pooledBus = SimpleEventBus.create(
+            EventBusConfig.eventBusConfig().acceptsCancelled(true).build());
+        this.pooledBus.pool(CountingEvent.class, PoolingConfig.<CountingEvent>poolingConfig()
+            .factory(CountingEvent::new)
+            .build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            this.pooledBus.subscribe(CountingEvent.class, event -> {
+            });
+        }
+
+        final EventRegistration<CountingEvent> registration = this.baselineBus
+            .getOrCreateRegistration(CountingEvent.class);
+        this.registrationKey = registration.key();
+        this.registrationId = registration.id();
+
         this.cancellingBus = SimpleEventBus.create(
             EventBusConfig.eventBusConfig().acceptsCancelled(true).build());
         for (int i = 0; i < this.subscriberCount / 2; i++) {
@@ -67,6 +120,21 @@ public class EventBenchmark {
             });
         }
 
+        this.indexedZoneBus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        this.filteredZoneBus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            final int zone = i;
+            this.indexedZoneBus.subscribe(ZoneEvent.class, event -> {
+            }, 0, false, SubscriptionOptions.<ZoneEvent>subscriptionOptions()
+                .where(ZoneEvent.ZONE, zone)
+                .build());
+            this.filteredZoneBus.subscribe(ZoneEvent.class, event -> {
+                if (event.zone() != zone) {
+                    return;
+                }
+            });
+        }
+
         this.cancellingBus.subscribe(CancellationEvent.class, event -> event.cancelled(true), 1);
         for (int i = 0; i < this.subscriberCount / 2; i++) {
             this.cancellingBus.subscribe(CancellationEvent.class, event -> {
@@ -81,6 +149,136 @@ public class EventBenchmark {
         this.baselineBus.publish(new CountingEvent());
     }
 
+    /**
+     * Publishes to an instrumented bus, for comparison against
+     * {@link #benchmarkBaselineEventPublish()} to measure the cost of the metrics.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkInstrumentedEventPublish() {
+        this.instrumentedBus.publish(new CountingEvent());
+    }
+
+    /**
+     * Publishes a preallocated event, so that the publish path is the only possible source of
+     * allocation. Run with {@code -prof gc}, it should report {@code 0 B/op}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkPreallocatedEventPublish() {
+        this.baselineBus.publish(this.preallocatedEvent);
+    }
+
+    /**
+     * Publishes an event acquired from a pool, and released back into it once dispatched. Run
+     * with {@code -prof gc}, it should report {@code 0 B/op}, unlike
+     * {@link #benchmarkBaselineEventPublish()}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkPooledEventPublish() {
+        this.pooledBus.publish(this.pooledBus.acquire(CountingEvent.class));
+    }
+
+    /**
+     * Publishes an event nobody subscribed to, paying for its allocation and an empty dispatch.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkUnsubscribedEventPublish() {
+        this.baselineBus.publish(new ZoneEvent(0));
+    }
+
+    /**
+     * Publishes an event nobody subscribed to through a supplier, which is never called. Run with
+     * {@code -prof gc}, it should report {@code 0 B/op}, unlike
+     * {@link #benchmarkUnsubscribedEventPublish()}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkUnsubscribedSuppliedEventPublish() {
+        this.baselineBus.publish(ZoneEvent.class, () -> new ZoneEvent(0));
+    }
+
+    /**
+     * Resolves the registration by its key on every publish, through the key to id map and the
+     * dense registration array, for comparison against the class-indexed dispatch used by
+     * {@link #benchmarkBaselineEventPublish()}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkKeyResolvedEventPublish() {
+        final CountingEvent event = new CountingEvent();
+        final EventRegistration<CountingEvent> registration = this.baselineBus.get(
+            this.registrationKey);
+        if (registration == null) {
+            throw new IllegalStateException("CountingEvent is not registered");
+        }
+        for (final EventSubscription<CountingEvent> subscription : registration.subscribers()) {
+            subscription.subscriber().handle(event);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public @Nullable EventRegistration<CountingEvent> benchmarkRegistrationLookupByKey() {
+        return this.baselineBus.get(this.registrationKey);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public @Nullable EventRegistration<CountingEvent> benchmarkRegistrationLookupById() {
+        return this.baselineBus.get(this.registrationId);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void benchmarkBatchEventPublish() {
+        this.baselineBus.publishAll(CountingEvent.class, this.batch, BatchOrder.EVENT_MAJOR);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void benchmarkSubscriberMajorBatchEventPublish() {
+        this.baselineBus.publishAll(CountingEvent.class, this.batch, BatchOrder.SUBSCRIBER_MAJOR);
+    }
+
+    /**
+     * Publishes to one of {@code subscriberCount} zones, whose subscribers are indexed by zone.
+     * The event is preallocated and its zone boxes to a cached {@link Integer}, so the indexed
+     * lookup and merge are the only possible source of allocation. Run with {@code -prof gc}, it
+     * should report {@code 0 B/op}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkIndexedZonePublish() {
+        this.indexedZoneBus.publish(this.zoneEvent);
+    }
+
+    /**
+     * Publishes to one of {@code subscriberCount} zones, whose subscribers check the zone
+     * themselves, for comparison against {@link #benchmarkIndexedZonePublish()}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void benchmarkFilteredZonePublish() {
+        this.filteredZoneBus.publish(this.zoneEvent);
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     @OutputTimeUnit(TimeUnit.SECONDS)
@@ -106,6 +304,44 @@ public class EventBenchmark {
         this.baselineBus.publish(new CountingEvent());
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(4)
+    public void benchmarkConcurrentRingBufferPublish(final RingBufferState state) {
+        state.bus.publish(new CountingEvent());
+    }
+
+    /**
+     * The ring buffer bus, in a state of its own so that its consumer threads only run beside the
+     * benchmarks publishing to it.
+     */
+    @State(Scope.Benchmark)
+    public static class RingBufferState {
+
+        RingBufferEventBus bus;
+
+        @Setup(Level.Iteration)
+        public void setup(final EventBenchmark benchmark) {
+            this.bus = RingBufferEventBus.create(EventBusConfig.eventBusConfig().build(),
+                RingBufferConfig.ringBufferConfig()
+                    .capacity(8192)
+                    .consumers(2)
+                    .waitStrategy(WaitStrategy.YIELD)
+                    .build());
+            for (int i = 0; i < benchmark.subscriberCount; i++) {
+                this.bus.subscribe(CountingEvent.class, event -> {
+                });
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            this.bus.close();
+        }
+
+    }
+
     @State(Scope.Benchmark)
     public static class SubscribeUnsubscribeState {
 
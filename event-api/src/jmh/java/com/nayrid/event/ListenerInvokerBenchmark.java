@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.annotation.Subscribe;
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.testdata.CountingEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the invokers generated for {@link Subscribe} methods with a reflective invoker and a
+ * hand-written lambda.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+public class ListenerInvokerBenchmark {
+
+    private final CountingEvent event = new CountingEvent();
+    private final Listener listener = new Listener();
+
+    private SimpleEventBus generatedBus;
+    private SimpleEventBus reflectiveBus;
+    private SimpleEventBus lambdaBus;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        final EventBusConfig config = EventBusConfig.eventBusConfig().build();
+        this.generatedBus = SimpleEventBus.create(config);
+        this.generatedBus.register(this.listener);
+
+        final Method method = Listener.class.getDeclaredMethod("onCounting", CountingEvent.class);
+        this.reflectiveBus = SimpleEventBus.create(config);
+        this.reflectiveBus.subscribe(CountingEvent.class, event -> {
+            try {
+                method.invoke(this.listener, event);
+            } catch (final IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+
+        this.lambdaBus = SimpleEventBus.create(config);
+        this.lambdaBus.subscribe(CountingEvent.class, this.listener::onCounting);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkGeneratedInvoker() {
+        this.generatedBus.publish(this.event);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkReflectiveInvoker() {
+        this.reflectiveBus.publish(this.event);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkLambdaInvoker() {
+        this.lambdaBus.publish(this.event);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkRegisterCachedListener() {
+        this.generatedBus.register(new Listener()).close();
+    }
+
+    public static class Listener {
+
+        private long count;
+
+        @Subscribe
+        public void onCounting(final CountingEvent event) {
+            this.count++;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.subscription.EventStage;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import com.nayrid.event.testdata.GeneratedEvents;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Publishes to event types whose subscribers have mixed priorities and stages, and are drawn from
+ * a varying number of subscriber classes.
+ *
+ * <p>With one class every call into a subscriber is monomorphic. From three classes on, the call
+ * sites shared between event types become megamorphic, as they are in an application with many
+ * independent listeners.</p>
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MixedWorkloadBenchmark {
+
+    private static final int TYPE_COUNT = 64;
+    private static final int SUBSCRIBERS_PER_TYPE = 8;
+    private static final EventStage[] STAGES = EventStage.values();
+    // every lambda expression compiles to its own class
+    private static final List<IntFunction<EventSubscriber<Event>>> SHAPES = List.of(
+        id -> event -> sink(id, 1),
+        id -> event -> sink(id, 2),
+        id -> event -> sink(id, 3),
+        id -> event -> sink(id, 4),
+        id -> event -> sink(id, 5),
+        id -> event -> sink(id, 6),
+        id -> event -> sink(id, 7),
+        id -> event -> sink(id, 8),
+        id -> event -> sink(id, 9),
+        id -> event -> sink(id, 10),
+        id -> event -> sink(id, 11),
+        id -> event -> sink(id, 12),
+        id -> event -> sink(id, 13),
+        id -> event -> sink(id, 14),
+        id -> event -> sink(id, 15),
+        id -> event -> sink(id, 16)
+    );
+
+    private static int sink;
+
+    @Param({"1", "2", "4", "16"}) private int subscriberClasses;
+
+    private SimpleEventBus bus;
+    private Event[] events;
+    private int next;
+
+    private static void sink(final int id, final int shape) {
+        sink += id ^ shape;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup() {
+        this.events = GeneratedEvents.create(TYPE_COUNT).toArray(Event[]::new);
+        this.bus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        int id = 0;
+        for (final Event event : this.events) {
+            final Class<Event> eventType = (Class<Event>) event.getClass();
+            for (int i = 0; i < SUBSCRIBERS_PER_TYPE; i++, id++) {
+                final EventSubscriber<Event> subscriber = SHAPES.get(
+                    id % this.subscriberClasses).apply(id);
+                final SubscriptionOptions<Event> options = SubscriptionOptions
+                    .<Event>subscriptionOptions()
+                    .stage(STAGES[id % STAGES.length])
+                    .build();
+                // spread across the range, so that insertion order and priority order differ
+                this.bus.subscribe(eventType, subscriber, (id * 37) % 101 - 50, false, options);
+            }
+        }
+        for (final Event event : this.events) {
+            this.bus.publish(event);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkPublishRoundRobin() {
+        final int index = this.next;
+        this.next = index + 1 == this.events.length ? 0 : index + 1;
+        this.bus.publish(this.events[index]);
+    }
+
+}
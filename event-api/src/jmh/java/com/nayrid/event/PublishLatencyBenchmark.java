@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.RingBufferEventBus;
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.RingBufferConfig;
+import com.nayrid.event.testdata.CountingEvent;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Samples the latency of individual publishes, so that the percentiles show the outliers an
+ * average hides, such as a dispatcher being relinked or a full ring buffer.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublishLatencyBenchmark {
+
+    @Param({"1", "10", "100"}) private int subscriberCount;
+
+    private SimpleEventBus baselineBus;
+    private SimpleEventBus instrumentedBus;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.baselineBus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        this.instrumentedBus = SimpleEventBus.create(
+            EventBusConfig.eventBusConfig().instrumented(true).build());
+        for (int i = 0; i < this.subscriberCount; i++) {
+            final int priority = i % 16;
+            this.baselineBus.subscribe(CountingEvent.class, event -> {
+            }, priority);
+            this.instrumentedBus.subscribe(CountingEvent.class, event -> {
+            }, priority);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkPublish() {
+        this.baselineBus.publish(new CountingEvent());
+    }
+
+    @Benchmark
+    public void benchmarkInstrumentedPublish() {
+        this.instrumentedBus.publish(new CountingEvent());
+    }
+
+    @Benchmark
+    public void benchmarkRingBufferPublish(final RingBufferState state) {
+        state.bus.publish(new CountingEvent());
+    }
+
+    /**
+     * The ring buffer bus, in a state of its own so that its consumer threads only run beside the
+     * benchmark publishing to it.
+     */
+    @State(Scope.Benchmark)
+    public static class RingBufferState {
+
+        RingBufferEventBus bus;
+
+        @Setup(Level.Trial)
+        public void setup(final PublishLatencyBenchmark benchmark) {
+            this.bus = RingBufferEventBus.create(EventBusConfig.eventBusConfig().build(),
+                RingBufferConfig.ringBufferConfig().build());
+            for (int i = 0; i < benchmark.subscriberCount; i++) {
+                this.bus.subscribe(CountingEvent.class, event -> {
+                }, i % 16);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.bus.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.EventBus.EventRegistration;
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.testdata.GeneratedEvents;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Publishes across a bus holding between 10 and 10,000 distinct event types, each with its own
+ * subscriber, visiting the types round-robin so that the per-type state no longer fits in the
+ * cache at the larger sizes.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegistryScaleBenchmark {
+
+    @Param({"10", "100", "1000", "10000"}) private int typeCount;
+
+    private SimpleEventBus bus;
+    private Event[] events;
+    private int next;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup() {
+        final List<Event> events = GeneratedEvents.create(this.typeCount);
+        this.events = events.toArray(Event[]::new);
+        this.bus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        for (int i = 0; i < this.events.length; i++) {
+            this.bus.subscribe((Class<Event>) this.events[i].getClass(), event -> {
+            }, i % 8);
+        }
+        // link every dispatcher up front, only steady state publishing is measured
+        for (final Event event : this.events) {
+            this.bus.publish(event);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkPublishRoundRobin() {
+        final int index = this.next;
+        this.next = index + 1 == this.events.length ? 0 : index + 1;
+        this.bus.publish(this.events[index]);
+    }
+
+    @Benchmark
+    public @Nullable EventRegistration<?> benchmarkGetById() {
+        final int index = this.next;
+        this.next = index + 1 == this.events.length ? 0 : index + 1;
+        return this.bus.get(index);
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.ShardedEventBus;
+import com.nayrid.event.bus.ShardedEventBus.Shard;
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.testdata.CountingEvent;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Compares publishing from many threads on a single shared bus against publishing on a shard per
+ * thread of a {@link ShardedEventBus}.
+ *
+ * <p>Benchmarks run one thread per core by default. Run them with {@code -t 1}, {@code -t 2} and
+ * so on up to the number of cores to see how each scales.</p>
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+public class ShardedEventBenchmark {
+
+    @Param({"1", "10"}) private int subscriberCount;
+
+    private SimpleEventBus sharedBus;
+    private ShardedEventBus shardedBus;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup(final BenchmarkParams params) {
+        this.sharedBus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        // a shard per thread, so that every shard routed to is also drained
+        this.shardedBus = ShardedEventBus.create(EventBusConfig.eventBusConfig().build(),
+            params.getThreads());
+        this.nextShard.set(0);
+        for (int i = 0; i < this.subscriberCount; i++) {
+            this.sharedBus.subscribe(CountingEvent.class, event -> {
+            });
+            for (final Shard shard : this.shardedBus.shards()) {
+                shard.subscribe(CountingEvent.class, event -> {
+                });
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(Threads.MAX)
+    public void benchmarkSharedPublish() {
+        this.sharedBus.publish(new CountingEvent());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(Threads.MAX)
+    public void benchmarkShardedPublish(final ShardState state) {
+        state.shard.publish(new CountingEvent());
+    }
+
+    /**
+     * Routes every event to the next shard, and publishes those routed by the previous one.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(Threads.MAX)
+    public void benchmarkShardedRouteAndDrain(final ShardState state) {
+        state.shard.route(state.neighbour, new CountingEvent());
+        state.shard.drain();
+    }
+
+    /**
+     * The shard owned by a benchmark thread.
+     */
+    @SuppressWarnings("NotNullFieldNotInitialized")
+    @NullMarked
+    @State(Scope.Thread)
+    public static class ShardState {
+
+        private Shard shard;
+        private int neighbour;
+
+        @Setup(Level.Trial)
+        public void setup(final ShardedEventBenchmark benchmark) {
+            final int shards = benchmark.shardedBus.shardCount();
+            final int id = benchmark.nextShard.getAndIncrement();
+            this.shard = benchmark.shardedBus.shard(id);
+            this.neighbour = (id + 1) % shards;
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.testdata.CountingEvent;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Extends {@link EventBenchmark#benchmarkSubscribeUnsubscribe} to registrations that already hold
+ * a large number of subscribers.
+ */
+@SuppressWarnings("NotNullFieldNotInitialized")
+@NullMarked
+@State(Scope.Benchmark)
+public class SubscriptionChurnBenchmark {
+
+    @Param({"10", "1000", "10000"}) private int registrationSize;
+
+    private SimpleEventBus bus;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.bus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+        for (int i = 0; i < this.registrationSize; i++) {
+            final int priority = i % 16;
+            this.bus.subscribe(CountingEvent.class, event -> {
+            }, priority);
+        }
+        // make sure a dispatcher exists, as it would in a live system
+        this.bus.publish(new CountingEvent());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkSubscribeUnsubscribe() {
+        final EventSubscriber<CountingEvent> subscriber = event -> {
+        };
+        this.bus.subscribe(CountingEvent.class, subscriber, 8);
+        this.bus.unsubscribe(CountingEvent.class, subscriber);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkSubscribeUnsubscribePublish() {
+        final EventSubscriber<CountingEvent> subscriber = event -> {
+        };
+        this.bus.subscribe(CountingEvent.class, subscriber, 8);
+        this.bus.unsubscribe(CountingEvent.class, subscriber);
+        this.bus.publish(new CountingEvent());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void benchmarkSubscribeCloseHandle() {
+        this.bus.subscribe(CountingEvent.class, event -> {
+        }, 8).close();
+    }
+
+}
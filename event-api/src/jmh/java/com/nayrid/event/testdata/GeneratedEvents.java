@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.testdata;
+
+import com.nayrid.event.Event;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Defines any number of distinct event types at runtime, so that benchmarks can fill a bus with
+ * as many registrations as a large application would have.
+ *
+ * <p>Each type is a hidden class copied from {@link GeneratedEvent}, with the value of its
+ * {@link com.nayrid.event.annotation.AnnoKey} rewritten so that it gets its own key.</p>
+ */
+@NullMarked
+public final class GeneratedEvents {
+
+    private static final byte[] KEY_VALUE = "generated-00000".getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_COUNT = 100_000;
+
+    private GeneratedEvents() {
+    }
+
+    /**
+     * Defines {@code count} distinct event types, and creates one instance of each.
+     *
+     * @param count the number of types
+     * @return an instance of each type
+     */
+    public static List<Event> create(final int count) {
+        if (count < 0 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("count must be in [0, " + MAX_COUNT + "]");
+        }
+        final byte[] template = template();
+        final int offset = indexOf(template, KEY_VALUE);
+        final List<Event> events = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                final byte[] bytes = template.clone();
+                final byte[] value = "generated-%05d".formatted(i)
+                    .getBytes(StandardCharsets.UTF_8);
+                System.arraycopy(value, 0, bytes, offset, value.length);
+                final Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+                events.add((Event) lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class)).invoke());
+            }
+        } catch (final Throwable throwable) {
+            throw new IllegalStateException("Could not define event types", throwable);
+        }
+        return events;
+    }
+
+    private static byte[] template() {
+        try (InputStream stream = GeneratedEvent.class.getResourceAsStream(
+            GeneratedEvent.class.getSimpleName() + ".class")) {
+            if (stream == null) {
+                throw new IllegalStateException("GeneratedEvent.class is not readable");
+            }
+            return stream.readAllBytes();
+        } catch (final IOException exception) {
+            throw new IllegalStateException("GeneratedEvent.class is not readable", exception);
+        }
+    }
+
+    private static int indexOf(final byte[] bytes, final byte[] value) {
+        for (int i = 0; i <= bytes.length - value.length; i++) {
+            if (Arrays.equals(bytes, i, i + value.length, value, 0, value.length)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("GeneratedEvent.class does not contain its key");
+    }
+
+}
@@ -23,6 +23,7 @@
  */
 package com.nayrid.event;
 
+import com.nayrid.event.annotation.AnnoKey;
 import com.nayrid.event.bus.SimpleEventBus;
 import org.jetbrains.annotations.Contract;
 
@@ -31,6 +32,7 @@ import org.jetbrains.annotations.Contract;
  *
  * @since 1.0.0
  */
+@AnnoKey(namespace = "nayrid", value = "cancellable_event")
 public interface CancellableEvent extends Event {
 
     /**
@@ -35,9 +35,13 @@ import org.jspecify.annotations.NullMarked;
  * Marker interfaces for events. Implementing classes <strong>must</strong> be annotated with
  * {@link AnnoKey}.
  *
+ * <p>Subscribing to a supertype of an event, including this interface, receives that event as
+ * well. Such supertypes must be annotated with {@link AnnoKey} to be subscribed to.</p>
+ *
  * @since 1.0.0
  */
 @NullMarked
+@AnnoKey(namespace = "nayrid", value = "event")
 public interface Event extends Keyed {
 
     /**
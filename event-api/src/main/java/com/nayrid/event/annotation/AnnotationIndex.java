@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.annotation;
+
+import com.nayrid.event.bus.subscription.EventStage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.kyori.adventure.key.InvalidKeyException;
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of {@link AnnoKey} types and {@link Subscribe} methods, generated at compile time by
+ * the {@code event-processor} annotation processor.
+ *
+ * <p>Every class loader gets the merged index of the {@value #RESOURCE} resources visible to it,
+ * read once. Classes missing from the index are still handled reflectively.</p>
+ *
+ * @since 1.0.0
+ */
+@Internal
+@NullMarked
+public final class AnnotationIndex {
+
+    /**
+     * The path of the index resources.
+     *
+     * @since 1.0.0
+     */
+    public static final String RESOURCE = "META-INF/nayrid/event-index";
+
+    private static final AnnotationIndex EMPTY = new AnnotationIndex(Map.of(), Map.of());
+    private static final Map<ClassLoader, AnnotationIndex> INDEXES = new WeakHashMap<>();
+
+    private final Map<String, Key> keys;
+    private final Map<String, List<IndexedListener>> listeners;
+
+    private AnnotationIndex(final Map<String, Key> keys,
+        final Map<String, List<IndexedListener>> listeners) {
+        this.keys = keys;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Gets the index visible to a class.
+     *
+     * @param type the class
+     * @return the index of the class' loader
+     * @since 1.0.0
+     */
+    public static AnnotationIndex of(final Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        if (loader == null) {
+            return EMPTY;
+        }
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(loader, AnnotationIndex::load);
+        }
+    }
+
+    private static AnnotationIndex load(final ClassLoader loader) {
+        final Map<String, Key> keys = new HashMap<>();
+        final Map<String, List<IndexedListener>> listeners = new HashMap<>();
+        try {
+            final Enumeration<URL> resources = loader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), keys, listeners);
+            }
+        } catch (final IOException | IllegalArgumentException exception) {
+            // the index is only a shortcut, everything it holds can still be found reflectively
+            return EMPTY;
+        }
+        if (keys.isEmpty() && listeners.isEmpty()) {
+            return EMPTY;
+        }
+        listeners.replaceAll((type, methods) -> List.copyOf(methods));
+        return new AnnotationIndex(Map.copyOf(keys), Map.copyOf(listeners));
+    }
+
+    private static void read(final URL resource, final Map<String, Key> keys,
+        final Map<String, List<IndexedListener>> listeners) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.split(" ");
+                if (parts[0].equals("key") && parts.length == 4) {
+                    try {
+                        keys.putIfAbsent(parts[1], Key.key(parts[2], parts[3]));
+                    } catch (final InvalidKeyException ignored) {
+                        // left to the reflective lookup, which handles invalid keys
+                    }
+                } else if (parts[0].equals("listener") && parts.length == 8) {
+                    listeners.computeIfAbsent(parts[1], type -> new ArrayList<>())
+                        .add(new IndexedListener(parts[2], parts[3], parts[4],
+                            Integer.parseInt(parts[5]), Boolean.parseBoolean(parts[6]),
+                            EventStage.valueOf(parts[7])));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the indexed key of a class.
+     *
+     * @param type the class
+     * @return the key, or {@code null} if the class is not indexed
+     * @since 1.0.0
+     */
+    public @Nullable Key key(final Class<?> type) {
+        return this.keys.get(type.getName());
+    }
+
+    /**
+     * Gets the indexed {@link Subscribe} methods of a listener class, including inherited ones.
+     *
+     * @param type the listener class
+     * @return the listener methods, or {@code null} if the class is not indexed
+     * @since 1.0.0
+     */
+    public @Nullable List<IndexedListener> listeners(final Class<?> type) {
+        return this.listeners.get(type.getName());
+    }
+
+    /**
+     * An indexed {@link Subscribe} method.
+     *
+     * @param owner            the binary name of the declaring class
+     * @param name             the method name
+     * @param descriptor       the method descriptor
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription accepts cancelled events
+     * @param stage            the pipeline stage
+     * @since 1.0.0
+     */
+    @NullMarked
+    public record IndexedListener(String owner, String name, String descriptor, int priority,
+                                  boolean acceptsCancelled, EventStage stage) {
+
+    }
+
+}
@@ -47,6 +47,9 @@ public final class AnnotationUtil {
     /**
      * Gets the key from an annotated element with {@link AnnoKey}.
      *
+     * <p>Classes found in the compile-time {@link AnnotationIndex} are resolved without
+     * reflection.</p>
+     *
      * @param element the annotated element
      * @return the key
      * @since 1.0.0
@@ -57,6 +60,12 @@ public final class AnnotationUtil {
 
     @SuppressWarnings("DataFlowIssue")
     private static Optional<Key> computeKey(final AnnotatedElement element) {
+        if (element instanceof Class<?> type) {
+            final Key indexed = AnnotationIndex.of(type).key(type);
+            if (indexed != null) {
+                return Optional.of(indexed);
+            }
+        }
         if (!element.isAnnotationPresent(AnnoKey.class)) {
             return Optional.empty();
         }
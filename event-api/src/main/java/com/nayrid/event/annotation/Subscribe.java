@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.annotation;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.EventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.subscription.EventStage;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Marks a listener method subscribed by {@link EventBus#register(Object)}.
+ *
+ * <p>The method must not be static and must take a single parameter, the {@link Event} type it
+ * subscribes to. Its return value, if any, is ignored.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Subscribe {
+
+    int priority() default EventBusConfig.Builder.DEFAULT_PRIORITY;
+
+    boolean acceptsCancelled() default EventBusConfig.Builder.DEFAULT_ACCEPTS_CANCELLED;
+
+    EventStage stage() default EventStage.HANDLE;
+
+}
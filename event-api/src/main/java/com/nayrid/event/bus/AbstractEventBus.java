@@ -28,15 +28,44 @@ import com.nayrid.common.examine.reflect.Examine;
 import com.nayrid.event.CancellableEvent;
 import com.nayrid.event.Event;
 import com.nayrid.event.annotation.AnnotationUtil;
+import com.nayrid.event.bus.ListenerScanner.ListenerMethod;
+import com.nayrid.event.bus.config.CoalescingConfig;
 import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.EventBusConfig.ErrorPolicy;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.metrics.RegistrationMetrics;
+import com.nayrid.event.bus.metrics.SubscriptionMetrics;
+import com.nayrid.event.bus.subscription.BatchEventSubscriber;
+import com.nayrid.event.bus.subscription.EventStage;
 import com.nayrid.event.bus.subscription.EventSubscriber;
 import com.nayrid.event.bus.subscription.EventSubscription;
+import com.nayrid.event.bus.subscription.PropertyMatch;
+import com.nayrid.event.bus.subscription.SubscriptionHandle;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import com.nayrid.event.bus.subscription.SubscriptionScope;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import net.kyori.adventure.key.Key;
 import net.kyori.examination.Examinable;
@@ -57,9 +86,25 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
     Examinable,
     EventBus<C> {
 
+    private static final EventSubscription<?>[] NO_SUBSCRIPTIONS = new EventSubscription<?>[0];
+
     protected final @Examine C config;
-    protected final ConcurrentHashMap<Key, EventRegistration<?>> registrationsByKey = new ConcurrentHashMap<>();
-    protected final ConcurrentHashMap<Class<? extends Event>, EventRegistration<?>> registrationsByClass = new ConcurrentHashMap<>();
+    private final EventRegistry registry = new EventRegistry();
+    /*
+     * Class-indexed dispatch lookup used by publish. Only the first publish of an event class
+     * goes through the key path; later lookups are a ClassValue read. Values must never reference
+     * the bus itself, otherwise the ClassValue could not be reclaimed along with the bus. A value
+     * may be computed more than once, only one of them being kept, so computing it must have no
+     * side effects: the kept dispatch is registered once it is read, see dispatch(Class).
+     */
+    private final ClassValue<TypeDispatch<?>> dispatchesByType = new ClassValue<>() {
+        @Override
+        protected TypeDispatch<?> computeValue(final Class<?> type) {
+            return AbstractEventBus.this.createDispatch(type.asSubclass(Event.class));
+        }
+    };
+    private final Set<TypeDispatch<?>> dispatches = ConcurrentHashMap.newKeySet();
+    private final Set<EventCoalescer<?>> coalescers = ConcurrentHashMap.newKeySet();
 
     protected AbstractEventBus(final C config) {
         this.config = config;
@@ -69,50 +114,242 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
     @Override
     public <T extends Event> EventRegistration<T> getOrCreateRegistration(
         final Class<T> eventType) {
-        final Key key = AnnotationUtil.key(eventType)
+        final EventRegistration<?> existing = this.registry.get(eventType);
+        if (existing != null) {
+            return (EventRegistration<T>) existing;
+        }
+        final Key key = key(eventType);
+        final EventRegistration<T> created = this.registry.create(key, eventType);
+        if (created == null) {
+            return (EventRegistration<T>) nonNull(this.registry.get(key), "registration");
+        }
+        // subtypes that were already published need to pick up the new registration
+        this.invalidateDispatches(eventType);
+        return created;
+    }
+
+    private static Key key(final Class<? extends Event> eventType) {
+        return AnnotationUtil.key(eventType)
             .orElseThrow(() -> new IllegalStateException(
                 "Event %s is not annotated with AnnoKey".formatted(eventType.getCanonicalName())));
+    }
 
-        return (EventRegistration<T>) this.registrationsByKey.computeIfAbsent(key, k -> {
-            EventRegistration<T> reg = EventRegistration.create(key, eventType);
-            this.registrationsByClass.putIfAbsent(eventType, reg);
-            return reg;
-        });
+    // does not create a registration, which only subscribing does
+    private <T extends Event> TypeDispatch<T> createDispatch(final Class<T> eventType) {
+        return new TypeDispatch<>(eventType, key(eventType), this.registry, this.config);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends Event> TypeDispatch<T> dispatch(final Class<?> eventType) {
+        final TypeDispatch<T> dispatch = (TypeDispatch<T>) this.dispatchesByType.get(eventType);
+        if (!dispatch.registered) {
+            this.register(dispatch);
+        }
+        return dispatch;
+    }
+
+    // registering twice is harmless, so racing readers of the same dispatch need no lock
+    private void register(final TypeDispatch<?> dispatch) {
+        this.dispatches.add(dispatch);
+        FlightRecording.track(dispatch);
+        dispatch.registered = true;
+    }
+
+    private void invalidateDispatches(final Class<?> eventType) {
+        for (final TypeDispatch<?> dispatch : this.dispatches) {
+            if (eventType.isAssignableFrom(dispatch.eventType)) {
+                dispatch.invalidate();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Subscribers of the event's supertypes receive the event as well, merged with the
+     * subscribers of the event's own type in priority order.</p>
+     */
     @Override
     public <T extends Event> void publish(final T event) {
-        @SuppressWarnings("unchecked") final EventRegistration<T> registration = (EventRegistration<T>) this.getOrCreateRegistration(
-            event.getClass());
-        for (EventSubscription<T> subscription : registration.subscribers()) {
-            if (event instanceof CancellableEvent cancellableEvent) {
-                if (!cancellableEvent.cancelled() || subscription.acceptsCancelled()) {
-                    subscription.subscriber().handle(event);
+        this.<T>dispatch(event.getClass()).dispatcher().dispatch(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Whether a pooled event was cancelled is read before it is released back into its
+     * pool.</p>
+     */
+    @Override
+    public <T extends CancellableEvent> boolean publish(final T event) {
+        final EventDispatcher<T> dispatcher = this.<T>dispatch(event.getClass()).dispatcher();
+        if (dispatcher instanceof EventPool.ReleasingDispatcher<T> releasing) {
+            return releasing.dispatchCancellable(event);
+        }
+        dispatcher.dispatch(event);
+        return !event.cancelled();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The event is also created if the bus has a
+     * {@link EventBusConfig#deadLetters() dead-letter subscriber}, which receives it if nothing
+     * else does.</p>
+     */
+    @Override
+    public <T extends Event> void publish(final Class<T> eventType,
+        final Supplier<? extends T> supplier) {
+        nonNull(supplier, "supplier");
+        if (this.config.deadLetters() != null || this.hasSubscribers(eventType)) {
+            this.publish(supplier.get());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Publishing an event, or checking for subscribers, does not create a registration for
+     * its type. A type nobody subscribed to shares the empty dispatcher, so the check costs a
+     * lookup of the type's dispatch and a read of its subscriptions.</p>
+     */
+    @Override
+    public boolean hasSubscribers(final Class<? extends Event> eventType) {
+        return this.dispatch(nonNull(eventType, "eventType")).subscriptions().length != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The subscribers are resolved once for the whole batch. If an event is not exactly of
+     * {@code eventType}, the batch is published event by event instead. So is it if events are
+     * coalesced or pooled, if the bus has a dead-letter subscriber, or if its error policy isolates
+     * subscribers from each other's exceptions.</p>
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Event> void publishAll(final Class<T> eventType,
+        final List<? extends T> events, final BatchOrder order) {
+        nonNull(eventType, "eventType");
+        nonNull(order, "order");
+        for (final T event : events) {
+            if (event.getClass() != eventType) {
+                for (final T mixed : events) {
+                    this.publish(mixed);
                 }
-            } else {
-                subscription.subscriber().handle(event);
+                return;
+            }
+        }
+        final TypeDispatch<T> dispatch = this.dispatch(eventType);
+        // one snapshot, so that the batch sees a single set of subscribers
+        final TypeDispatch.Snapshot<T> snapshot = dispatch.snapshot();
+        if (order == BatchOrder.EVENT_MAJOR || dispatch.coalesced() || dispatch.pooled()
+            || dispatch.errorPolicy != ErrorPolicy.PROPAGATE || dispatch.deadLetters != null) {
+            final EventDispatcher<T> dispatcher = snapshot.published();
+            for (final T event : events) {
+                dispatcher.dispatch(event);
+            }
+            return;
+        }
+        dispatch.countPublished(events.size());
+        final List<T> batch = (List<T>) events;
+        for (final EventSubscription<T> subscription : snapshot.subscriptions()) {
+            final boolean skipCancelled = dispatch.cancellable && !subscription.acceptsCancelled();
+            final Predicate<? super T> filter = subscription.filter();
+            final PropertyMatch<? super T> match = subscription.match();
+            if (!skipCancelled && filter == null && match == null) {
+                handleAll(subscription.subscriber(), batch);
+                continue;
             }
+            final List<T> accepted = new ArrayList<>(batch.size());
+            for (final T event : batch) {
+                if ((!skipCancelled || !((CancellableEvent) event).cancelled())
+                    && (match == null || match.matches(event))
+                    && (filter == null || filter.test(event))) {
+                    accepted.add(event);
+                }
+            }
+            handleAll(subscription.subscriber(), accepted);
+        }
+    }
+
+    private static <T extends Event> void handleAll(final EventSubscriber<T> subscriber,
+        final List<T> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (subscriber instanceof BatchEventSubscriber<T> batchSubscriber) {
+            batchSubscriber.handleAll(Collections.unmodifiableList(events));
+            return;
+        }
+        for (final T event : events) {
+            subscriber.handle(event);
         }
     }
 
     @Override
-    public <T extends Event> void subscribe(final Class<T> eventType,
-        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled) {
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled,
+        final SubscriptionOptions<T> options) {
+        return this.subscribeWrapped(eventType, subscriber, priority, acceptsCancelled, options,
+            UnaryOperator.identity());
+    }
+
+    /**
+     * Subscribes to an event, wrapping the subscriber before it is added to the registration. A
+     * weak subscription references the subscriber weakly from within the wrapper.
+     *
+     * @param eventType        the event class
+     * @param subscriber       the event subscriber
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription should accept cancelled events
+     * @param options          the subscription options
+     * @param wrapper          wraps the subscriber
+     * @param <T>              the event type
+     * @return a handle removing the subscription when closed
+     * @since 1.0.0
+     */
+    <T extends Event> SubscriptionHandle subscribeWrapped(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled,
+        final SubscriptionOptions<T> options, final UnaryOperator<EventSubscriber<T>> wrapper) {
+        nonNull(subscriber, "subscriber");
+        nonNull(options, "options");
         final EventRegistration<T> registration = nonNull(this.getOrCreateRegistration(eventType),
             "event registration for event type: '" + eventType.getCanonicalName() + "'");
-        registration.subscribe(new EventSubscriptionImpl<>(priority, acceptsCancelled, subscriber));
+        final Function<EventSubscriber<T>, SubscriptionHandle> subscribe = target -> {
+            final SubscriptionHandle handle = registration.subscribe(
+                new EventSubscriptionImpl<>(priority, acceptsCancelled, wrapper.apply(target),
+                    options.stage(), options.filter(), options.match(),
+                    this.config.instrumented() ? new SubscriberMetrics() : null));
+            if (registration instanceof EventRegistrationImpl<T>) {
+                return handle;
+            }
+            this.invalidateDispatches(eventType);
+            return new InvalidatingHandle(this, eventType, handle);
+        };
+        return options.weak()
+            ? WeakSubscriber.subscribe(subscriber, subscribe)
+            : subscribe.apply(subscriber);
+    }
+
+    @Override
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled) {
+        return this.subscribe(eventType, subscriber, priority, acceptsCancelled,
+            SubscriptionOptions.defaults());
     }
 
     @Override
-    public <T extends Event> void subscribe(final Class<T> eventType,
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
         final EventSubscriber<T> subscriber, int priority) {
-        this.subscribe(eventType, subscriber, priority, this.config().acceptsCancelled());
+        return this.subscribe(eventType, subscriber, priority, this.config().acceptsCancelled());
     }
 
     @Override
-    public <T extends Event> void subscribe(final Class<T> eventType,
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
         final EventSubscriber<T> subscriber) {
-        this.subscribe(eventType, subscriber, this.config().priority(), this.config().acceptsCancelled());
+        return this.subscribe(eventType, subscriber, this.config().priority(),
+            this.config().acceptsCancelled());
     }
 
     @Override
@@ -121,25 +358,192 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
         final EventRegistration<T> registration = nonNull(this.getOrCreateRegistration(eventType),
             "event registration for event type: '" + eventType.getCanonicalName() + "'");
         registration.unsubscribe(subscriber);
+        if (!(registration instanceof EventRegistrationImpl<T>)) {
+            this.invalidateDispatches(eventType);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The listener class is scanned once, the first time one of its instances is
+     * registered.</p>
+     */
+    @Override
+    public SubscriptionScope register(final Object listener) {
+        nonNull(listener, "listener");
+        final SubscriptionScope scope = SubscriptionScope.create();
+        for (final ListenerMethod method : ListenerScanner.methods(listener.getClass())) {
+            scope.add(this.subscribe(method.eventType(), method.bind(listener), method.priority(),
+                method.acceptsCancelled(), method.options()));
+        }
+        return scope;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The monitors of every affected registration are held, in a fixed order, while the
+     * changes are applied. Publishers needing one of those registrations' snapshots wait until
+     * the whole transaction has been applied.</p>
+     */
+    @Override
+    public void batch(final Consumer<? super SubscriptionTransaction> transaction) {
+        final SubscriptionTransactionImpl recorded = new SubscriptionTransactionImpl();
+        nonNull(transaction, "transaction").accept(recorded);
+        final List<EventRegistration<?>> registrations = new ArrayList<>();
+        for (final Class<? extends Event> eventType : recorded.eventTypes) {
+            registrations.add(this.getOrCreateRegistration(eventType));
+        }
+        registrations.sort(Comparator.comparingLong(AbstractEventBus::lockOrder));
+        applyLocked(registrations, 0, recorded.changes);
+    }
+
+    private static long lockOrder(final EventRegistration<?> registration) {
+        return registration instanceof EventRegistrationImpl<?> impl
+            ? impl.sequence
+            : Long.MAX_VALUE - System.identityHashCode(registration);
+    }
+
+    private static void applyLocked(final List<EventRegistration<?>> registrations,
+        final int index, final List<Runnable> changes) {
+        if (index == registrations.size()) {
+            for (final Runnable change : changes) {
+                change.run();
+            }
+            return;
+        }
+        synchronized (registrations.get(index)) {
+            applyLocked(registrations, index + 1, changes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Pending events are held by the bus until flushed, so they are not dispatched if the bus
+     * becomes unreachable first.</p>
+     */
+    @Override
+    public <T extends Event> void coalesce(final Class<T> eventType,
+        final CoalescingConfig<T> config) {
+        nonNull(eventType, "eventType");
+        nonNull(config, "config");
+        if (CancellableEvent.class.isAssignableFrom(eventType)) {
+            throw new IllegalArgumentException("Cancellable events can't be coalesced: "
+                + eventType.getCanonicalName());
+        }
+        if (Modifier.isAbstract(eventType.getModifiers())) {
+            throw new IllegalArgumentException("Only concrete event classes can be coalesced: "
+                + eventType.getCanonicalName());
+        }
+        final TypeDispatch<T> dispatch = this.dispatch(eventType);
+        if (dispatch.pooled()) {
+            throw new IllegalStateException("Pooled events can't be coalesced: "
+                + eventType.getCanonicalName());
+        }
+        final EventCoalescer<T> coalescer = new EventCoalescer<>(dispatch, config);
+        this.coalescers.add(coalescer);
+        final EventCoalescer<T> previous = dispatch.coalesce(coalescer);
+        if (previous != null) {
+            this.coalescers.remove(previous);
+            previous.flush();
+        }
+    }
+
+    @Override
+    public <T extends Event> void pool(final Class<T> eventType, final PoolingConfig<T> config) {
+        nonNull(eventType, "eventType");
+        nonNull(config, "config");
+        if (Modifier.isAbstract(eventType.getModifiers())) {
+            throw new IllegalArgumentException("Only concrete event classes can be pooled: "
+                + eventType.getCanonicalName());
+        }
+        final TypeDispatch<T> dispatch = this.dispatch(eventType);
+        if (dispatch.coalesced()) {
+            throw new IllegalStateException("Coalesced events can't be pooled: "
+                + eventType.getCanonicalName());
+        }
+        dispatch.pool(this.newPool(config));
+    }
+
+    /**
+     * Releases an event that will never be dispatched back into the pool of its type, if its
+     * type is pooled.
+     *
+     * @param event the event
+     * @param <T>   the event type
+     * @since 1.0.0
+     */
+    <T extends Event> void discard(final T event) {
+        final EventPool<T> pool = this.<T>dispatch(event.getClass()).pool;
+        if (pool != null) {
+            pool.release(event);
+        }
+    }
+
+    /**
+     * Creates the pool of an event type. Events are released on the thread dispatching them, so
+     * buses dispatching on other threads than the publishing one must share their pools between
+     * threads.
+     *
+     * @param config the pooling config
+     * @param <T>    the event type
+     * @return the pool
+     * @since 1.0.0
+     */
+    <T extends Event> EventPool<T> newPool(final PoolingConfig<T> config) {
+        return EventPool.local(config);
+    }
+
+    @Override
+    public <T extends Event> T acquire(final Class<T> eventType) {
+        final EventPool<T> pool = this.<T>dispatch(eventType).pool;
+        if (pool == null) {
+            throw new IllegalStateException("Event is not pooled: "
+                + eventType.getCanonicalName());
+        }
+        return pool.acquire();
+    }
+
+    @Override
+    public void flush() {
+        RuntimeException failure = null;
+        for (final EventCoalescer<?> coalescer : this.coalescers) {
+            try {
+                coalescer.flush();
+            } catch (final RuntimeException exception) {
+                failure = EventCoalescer.failed(failure, exception);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Event> @Nullable EventRegistration<T> get(final int id) {
+        return (EventRegistration<T>) this.registry.get(id);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Event> @Nullable EventRegistration<T> get(final Key key) {
         nonNull(key, "key");
-        return (EventRegistration<T>) this.registrationsByKey.get(key);
+        return (EventRegistration<T>) this.registry.get(key);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Event> @Nullable EventRegistration<T> get(final Class<T> eventType) {
         nonNull(eventType, "eventType");
-        return (EventRegistration<T>) this.registrationsByClass.get(eventType);
+        return (EventRegistration<T>) this.registry.get(eventType);
     }
 
     @Override
     public Set<Key> keySet() {
-        return this.registrationsByKey.keySet();
+        return this.registry.keySet();
     }
 
     @Override
@@ -147,17 +551,480 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
         return this.config;
     }
 
+    /**
+     * Takes a snapshot of the dispatch metrics of every registration, if the bus is
+     * {@link EventBusConfig#instrumented() instrumented}.
+     *
+     * <p>Publish counts only include events of exactly the registration's type, while the
+     * subscriptions of a registration count every event they handled, subtypes included.</p>
+     *
+     * @return the metrics, in registration id order, or an empty list if the bus is not
+     *     instrumented
+     * @since 1.0.0
+     */
+    public List<RegistrationMetrics> metrics() {
+        if (!this.config.instrumented()) {
+            return List.of();
+        }
+        final Map<Class<?>, Long> published = new HashMap<>();
+        for (final TypeDispatch<?> dispatch : this.dispatches) {
+            published.put(dispatch.eventType, dispatch.published());
+        }
+        final List<RegistrationMetrics> metrics = new ArrayList<>();
+        for (final EventRegistration<?> registration : this.registry.registrations()) {
+            final List<SubscriptionMetrics> subscriptions = new ArrayList<>();
+            for (final EventSubscription<?> subscription : registration.subscribers()) {
+                if (subscription instanceof EventSubscriptionImpl<?> impl
+                    && impl.metrics() != null) {
+                    subscriptions.add(impl.metrics().snapshot(
+                        impl.subscriber().getClass().getName(), impl.stage(), impl.priority()));
+                }
+            }
+            metrics.add(new RegistrationMetrics(registration.key(),
+                published.getOrDefault(registration.eventType(), 0L), subscriptions));
+        }
+        return metrics;
+    }
+
     @Override
     public Stream<? extends ExaminableProperty> examinableProperties() {
-        return Stream.concat(Stream.of(ExaminableProperty.of("events", this.keySet().size()),
-                ExaminableProperty.of("registeredEvents", this.registrationsByKey.values())),
+        final Stream<? extends ExaminableProperty> properties = Stream.of(
+            ExaminableProperty.of("events", this.keySet().size()),
+            ExaminableProperty.of("registeredEvents", this.registry.registrations()));
+        return Stream.concat(this.config.instrumented()
+                ? Stream.concat(properties, Stream.of(ExaminableProperty.of("metrics",
+                this.metrics())))
+                : properties,
             super.examinableProperties());
     }
 
+    /*
+     * Padding isolating the snapshot read by every publish on cache lines of its own, so that
+     * writes to neighbouring objects, or to the other dispatch fields, never invalidate it.
+     * Superclass fields are laid out before subclass fields, so the hierarchy keeps the padding on
+     * both sides of the field regardless of how fields are ordered within a class.
+     * 128 bytes per side also covers adjacent cache line prefetching.
+     */
+    @NullMarked
+    @SuppressWarnings("unused")
+    abstract static class DispatcherPadding {
+
+        // fills the gap after the object header, which would otherwise take a subclass field
+        int p;
+        long p00;
+        long p01;
+        long p02;
+        long p03;
+        long p04;
+        long p05;
+        long p06;
+        long p07;
+        long p08;
+        long p09;
+        long p10;
+        long p11;
+        long p12;
+        long p13;
+        long p14;
+        long p15;
+
+    }
+
+    @NullMarked
+    abstract static class SnapshotField<T extends Event> extends DispatcherPadding {
+
+        volatile TypeDispatch.Snapshot<T> snapshot = TypeDispatch.Snapshot.invalidated();
+
+    }
+
+    @NullMarked
+    @SuppressWarnings("unused")
+    abstract static class DispatcherTrailingPadding<T extends Event> extends SnapshotField<T> {
+
+        long q00;
+        long q01;
+        long q02;
+        long q03;
+        long q04;
+        long q05;
+        long q06;
+        long q07;
+        long q08;
+        long q09;
+        long q10;
+        long q11;
+        long q12;
+        long q13;
+        long q14;
+        long q15;
+
+    }
+
     /**
-     * Concrete implementation of {@link EventRegistration} that uses a volatile unmodifiable list
-     * to hold subscriptions. Subscription and un-subscription are performed under synchronization
-     * while event publishing requires only a volatile read.
+     * The dispatch state of a single concrete event class.
+     *
+     * <p>The supertypes of the event class are flattened once, on creation. The subscriptions of
+     * every registration among them are merged by priority into one {@link EventDispatcher}, which
+     * is rebuilt lazily on the next publish after any of those registrations changed.</p>
+     *
+     * <p>The merged subscriptions and the dispatchers built from them are published together, as
+     * one {@link Snapshot}, by a single compare-and-set against the invalidated snapshot they
+     * replace. A rebuild that raced with a change therefore never becomes visible, and every
+     * reader sees subscriptions that agree with the dispatcher publishing uses.</p>
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    static final class TypeDispatch<T extends Event> extends DispatcherTrailingPadding<T> {
+
+        private static final VarHandle SNAPSHOT;
+
+        static {
+            try {
+                SNAPSHOT = MethodHandles.lookup()
+                    .findVarHandle(SnapshotField.class, "snapshot", Snapshot.class);
+            } catch (final ReflectiveOperationException exception) {
+                throw new ExceptionInInitializerError(exception);
+            }
+        }
+
+        final Class<T> eventType;
+        private final Key key;
+        final boolean cancellable;
+        final ErrorPolicy errorPolicy;
+        final @Nullable EventSubscriber<Event> deadLetters;
+        private final List<Class<?>> supertypes;
+        // the registration id of every supertype once it has one, so that rebuilds skip the map
+        private final int[] supertypeIds;
+        private final EventRegistry registry;
+        private final EventDispatcher.Linker linker = new EventDispatcher.Linker();
+        private volatile @Nullable EventCoalescer<T> coalescer;
+        private volatile @Nullable EventPool<T> pool;
+        // set once the bus registered the dispatch, after the dispatch lookup kept it
+        volatile boolean registered;
+        // counts publishes on instrumented buses, null otherwise
+        private final @Nullable LongAdder published;
+
+        TypeDispatch(final Class<T> eventType, final Key key, final EventRegistry registry,
+            final EventBusConfig config) {
+            this.eventType = eventType;
+            this.key = key;
+            this.cancellable = CancellableEvent.class.isAssignableFrom(eventType);
+            this.supertypes = supertypes(eventType);
+            this.supertypeIds = new int[this.supertypes.size()];
+            Arrays.fill(this.supertypeIds, -1);
+            this.registry = registry;
+            this.published = config.instrumented() ? new LongAdder() : null;
+            this.errorPolicy = config.errorPolicy();
+            this.deadLetters = config.deadLetters();
+        }
+
+        private static List<Class<?>> supertypes(final Class<?> eventType) {
+            final Set<Class<?>> supertypes = new LinkedHashSet<>();
+            final Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(eventType);
+            while (!queue.isEmpty()) {
+                final Class<?> type = queue.poll();
+                if (!Event.class.isAssignableFrom(type) || !supertypes.add(type)) {
+                    continue;
+                }
+                if (type.getSuperclass() != null) {
+                    queue.add(type.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(type.getInterfaces()));
+            }
+            return List.copyOf(supertypes);
+        }
+
+        /**
+         * Gets the dispatcher for the current subscribers, rebuilding it if it was invalidated.
+         *
+         * @return the dispatcher
+         * @since 1.0.0
+         */
+        EventDispatcher<T> dispatcher() {
+            return this.snapshot().published();
+        }
+
+        /**
+         * Gets the merged subscriptions the current dispatcher was built from. The returned array
+         * must not be modified.
+         *
+         * @return the subscriptions, in priority order
+         * @since 1.0.0
+         */
+        EventSubscription<T>[] subscriptions() {
+            return this.snapshot().subscriptions();
+        }
+
+        /**
+         * Gets the dispatcher of the current subscribers, bypassing the coalescer if events are
+         * coalesced.
+         *
+         * @return the subscribers' dispatcher
+         * @since 1.0.0
+         */
+        EventDispatcher<T> subscribersDispatcher() {
+            return this.snapshot().subscribers();
+        }
+
+        /**
+         * Gets the current snapshot, rebuilding it if it was invalidated. A rebuild is only
+         * returned if it was published, so the snapshot was current at some point during the
+         * call.
+         *
+         * @return the snapshot
+         * @since 1.0.0
+         */
+        @SuppressWarnings("unchecked")
+        Snapshot<T> snapshot() {
+            Snapshot<T> current = this.snapshot;
+            while (current.published() instanceof Invalidated<T>) {
+                final Snapshot<T> rebuilt = this.rebuild();
+                final Snapshot<T> witness = (Snapshot<T>) SNAPSHOT.compareAndExchange(this,
+                    current, rebuilt);
+                if (witness == current) {
+                    return rebuilt;
+                }
+                current = witness;
+            }
+            return current;
+        }
+
+        /**
+         * Gets the number of events published, if instrumented.
+         *
+         * @return the publish count, or {@code 0} if not instrumented
+         * @since 1.0.0
+         */
+        long published() {
+            final LongAdder published = this.published;
+            return published != null ? published.sum() : 0;
+        }
+
+        /**
+         * Counts events published without going through the dispatcher, if instrumented.
+         *
+         * @param count the number of events
+         * @since 1.0.0
+         */
+        void countPublished(final int count) {
+            final LongAdder published = this.published;
+            if (published != null) {
+                published.add(count);
+            }
+        }
+
+        /**
+         * Gets if published events are coalesced instead of dispatched.
+         *
+         * @return if events are coalesced
+         * @since 1.0.0
+         */
+        boolean coalesced() {
+            return this.coalescer != null;
+        }
+
+        /**
+         * Coalesces published events through the given coalescer.
+         *
+         * @param coalescer the coalescer
+         * @return the previous coalescer, or null
+         * @since 1.0.0
+         */
+        synchronized @Nullable EventCoalescer<T> coalesce(final EventCoalescer<T> coalescer) {
+            final EventCoalescer<T> previous = this.coalescer;
+            this.coalescer = coalescer;
+            this.invalidate();
+            return previous;
+        }
+
+        /**
+         * Gets if published events are released into a pool once dispatched.
+         *
+         * @return if events are pooled
+         * @since 1.0.0
+         */
+        boolean pooled() {
+            return this.pool != null;
+        }
+
+        /**
+         * Releases published events into the given pool once dispatched.
+         *
+         * @param pool the pool
+         * @since 1.0.0
+         */
+        synchronized void pool(final EventPool<T> pool) {
+            this.pool = pool;
+            this.invalidate();
+        }
+
+        /**
+         * Marks the dispatcher as stale, to be rebuilt on the next publish.
+         *
+         * @since 1.0.0
+         */
+        void invalidate() {
+            // a fresh marker per invalidation, so a concurrent rebuild can't overwrite it
+            this.snapshot = Snapshot.invalidated();
+        }
+
+        @SuppressWarnings("unchecked")
+        private Snapshot<T> rebuild() {
+            final List<EventSubscription<T>> subscriptions = new ArrayList<>();
+            for (int index = 0; index < this.supertypeIds.length; index++) {
+                final EventRegistration<?> registration = this.registration(index);
+                if (registration instanceof EventRegistrationImpl<?> impl) {
+                    impl.addDependent(this);
+                    for (final EventSubscription<?> subscription : impl.subscriptions()) {
+                        subscriptions.add((EventSubscription<T>) subscription);
+                    }
+                } else if (registration != null) {
+                    for (final EventSubscription<?> subscription : registration.subscribers()) {
+                        subscriptions.add((EventSubscription<T>) subscription);
+                    }
+                }
+            }
+            // stable, so the subscribers of more specific types go first within a priority
+            subscriptions.sort(Comparator.naturalOrder());
+            final @Nullable String recordedKey = FlightRecording.recording()
+                ? this.key.asString()
+                : null;
+            subscriptions.replaceAll(subscription -> decorate(subscription, recordedKey));
+            final EventDispatcher<T> rebuilt = this.linker.link(subscriptions, this.cancellable,
+                this.errorPolicy, this.deadLetters);
+            final EventCoalescer<T> coalescer = this.coalescer;
+            final LongAdder counter = this.published;
+            final EventDispatcher<T> target = coalescer != null ? coalescer : rebuilt;
+            EventDispatcher<T> published = recordedKey != null
+                ? new FlightRecording.RecordingDispatcher<>(target, recordedKey)
+                : target;
+            if (counter != null) {
+                published = new CountingDispatcher<>(published, counter);
+            }
+            // outermost, so that nothing reads an event after it was released
+            final EventPool<T> pool = this.pool;
+            if (pool != null) {
+                published = pool.releasing(published);
+            }
+            return new Snapshot<>(subscriptions.toArray(EventRegistrationImpl.noSubscriptions()),
+                rebuilt, published);
+        }
+
+        // registrations are never removed, so racing rebuilds can only cache the same id
+        private @Nullable EventRegistration<?> registration(final int index) {
+            final int id = this.supertypeIds[index];
+            if (id >= 0) {
+                return this.registry.get(id);
+            }
+            final EventRegistration<?> registration = this.registry.get(
+                this.supertypes.get(index));
+            if (registration != null) {
+                this.supertypeIds[index] = registration.id();
+            }
+            return registration;
+        }
+
+        /**
+         * Gets the subscription to dispatch to in place of the given one, wrapping its subscriber
+         * to record metrics and flight recorder events if needed.
+         *
+         * @param subscription the subscription
+         * @param recordedKey  the key to record flight recorder events with, or null
+         * @param <T>          the event type
+         * @return the subscription to dispatch to
+         * @since 1.0.0
+         */
+        private static <T extends Event> EventSubscription<T> decorate(
+            final EventSubscription<T> subscription, final @Nullable String recordedKey) {
+            final SubscriberMetrics metrics = subscription instanceof EventSubscriptionImpl<T> impl
+                ? impl.metrics()
+                : null;
+            if (metrics == null && recordedKey == null) {
+                return subscription;
+            }
+            EventSubscriber<T> subscriber = subscription.subscriber();
+            if (metrics != null) {
+                subscriber = new InstrumentedSubscriber<>(subscriber, metrics);
+            }
+            if (recordedKey != null) {
+                subscriber = new FlightRecording.RecordingSubscriber<>(subscriber, recordedKey,
+                    subscription.subscriber().getClass(), subscription.priority(),
+                    subscription.stage());
+            }
+            return new EventSubscriptionImpl<>(subscription.priority(),
+                subscription.acceptsCancelled(), subscriber, subscription.stage(),
+                subscription.filter(), subscription.match(), null);
+        }
+
+        /**
+         * The merged subscriptions of a dispatch, with the dispatchers built from them.
+         *
+         * @param subscriptions the subscriptions, in priority order, which must not be modified
+         * @param subscribers   the dispatcher of the subscribers
+         * @param published     the dispatcher publishing uses, which may coalesce, count or
+         *                      release events around the subscribers' dispatcher
+         * @param <T>           the event type
+         * @since 1.0.0
+         */
+        record Snapshot<T extends Event>(EventSubscription<T>[] subscriptions,
+                                         EventDispatcher<T> subscribers,
+                                         EventDispatcher<T> published) {
+
+            /**
+             * Creates a snapshot to be rebuilt on its next read.
+             *
+             * @param <T> the event type
+             * @return a new invalidated snapshot
+             * @since 1.0.0
+             */
+            static <T extends Event> Snapshot<T> invalidated() {
+                return new Snapshot<>(EventRegistrationImpl.noSubscriptions(),
+                    EventDispatcher.empty(), new Invalidated<>());
+            }
+
+        }
+
+        @NullMarked
+        static final class Invalidated<T extends Event> extends EventDispatcher<T> {
+
+            @Override
+            void dispatch(final T event) {
+                throw new IllegalStateException("Invalidated dispatcher");
+            }
+
+        }
+
+        @NullMarked
+        private static final class CountingDispatcher<T extends Event> extends
+            EventDispatcher<T> {
+
+            private final EventDispatcher<T> delegate;
+            private final LongAdder counter;
+
+            CountingDispatcher(final EventDispatcher<T> delegate, final LongAdder counter) {
+                this.delegate = delegate;
+                this.counter = counter;
+            }
+
+            @Override
+            void dispatch(final T event) {
+                this.counter.increment();
+                this.delegate.dispatch(event);
+            }
+
+        }
+
+    }
+
+    /**
+     * Concrete implementation of {@link EventRegistration} that keeps subscriptions in a linked
+     * list ordered by stage and priority, indexed by order and by subscriber, so that subscription
+     * and un-subscription cost {@code O(log n)}. Both are performed under synchronization and only
+     * invalidate the array snapshot read by publishing and the dispatchers built from this
+     * registration. The snapshot is rebuilt once, on the next read after any number of changes.
      *
      * @param <T> the event type
      * @since 1.0.0
@@ -166,15 +1033,35 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
     static final class EventRegistrationImpl<T extends Event> extends AbstractExaminable implements
         EventRegistration<T> {
 
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
+        final long sequence = SEQUENCE.getAndIncrement();
+        private final @Examine int id;
         private final @Examine Key key;
         private final Class<T> eventType;
-        private volatile @Examine List<EventSubscription<T>> subscribers = Collections.emptyList();
+        private final Set<TypeDispatch<?>> dependents = ConcurrentHashMap.newKeySet();
+        // the last node of every stage and priority, to find insertion points in O(log n)
+        private final TreeMap<EventSubscription<?>, Node<T>> tails = new TreeMap<>();
+        // the most recent node of every subscriber, chained to its other nodes, for O(1) lookup
+        private final Map<EventSubscriber<T>, Node<T>> nodesBySubscriber = new HashMap<>();
+        private @Nullable Node<T> head;
+        private int size;
+        // so that unsubscribing only looks for weak subscriptions while there are some
+        private int weakSize;
+        // rebuilt lazily, null after a change until the next read
+        private volatile EventSubscription<T> @Nullable [] subscriptions = noSubscriptions();
 
-        EventRegistrationImpl(final Key key, final Class<T> eventType) {
+        EventRegistrationImpl(final int id, final Key key, final Class<T> eventType) {
+            this.id = id;
             this.key = nonNull(key, "key");
             this.eventType = nonNull(eventType, "eventType");
         }
 
+        @Override
+        public int id() {
+            return this.id;
+        }
+
         @Override
         public Class<T> eventType() {
             return this.eventType;
@@ -182,28 +1069,212 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
 
         @Override
         public List<EventSubscription<T>> subscribers() {
-            return this.subscribers;
+            return Collections.unmodifiableList(Arrays.asList(this.subscriptions()));
+        }
+
+        /**
+         * Gets the current subscriptions without copying them. The returned array must not be
+         * modified.
+         *
+         * @return the subscriptions, in priority order
+         * @since 1.0.0
+         */
+        EventSubscription<T>[] subscriptions() {
+            final EventSubscription<T>[] subscriptions = this.subscriptions;
+            return subscriptions != null ? subscriptions : this.snapshot();
+        }
+
+        private synchronized EventSubscription<T>[] snapshot() {
+            EventSubscription<T>[] subscriptions = this.subscriptions;
+            if (subscriptions == null) {
+                subscriptions = Arrays.copyOf(noSubscriptions(), this.size);
+                int index = 0;
+                for (Node<T> node = this.head; node != null; node = node.next) {
+                    subscriptions[index++] = node.subscription;
+                }
+                this.subscriptions = subscriptions;
+            }
+            return subscriptions;
+        }
+
+        /**
+         * Registers a dispatch that must be invalidated whenever the subscribers change.
+         *
+         * @param dispatch the dependent dispatch
+         * @since 1.0.0
+         */
+        void addDependent(final TypeDispatch<?> dispatch) {
+            this.dependents.add(dispatch);
         }
 
         @Override
-        public synchronized void subscribe(EventSubscription<T> subscription) {
-            final List<EventSubscription<T>> current = new ArrayList<>(this.subscribers);
-            current.add(subscription);
-            current.sort(Comparator.naturalOrder());
-            this.subscribers = Collections.unmodifiableList(current);
+        public SubscriptionHandle subscribe(EventSubscription<T> subscription) {
+            return this.add(subscription);
+        }
+
+        /**
+         * Adds a subscription after every subscription of an earlier stage, or of the same stage
+         * and the same or a lower priority.
+         *
+         * @param subscription the subscription to add
+         * @return the node holding the subscription
+         * @since 1.0.0
+         */
+        synchronized Node<T> add(final EventSubscription<T> subscription) {
+            nonNull(subscription, "subscription");
+            final Node<T> node = new Node<>(this, subscription);
+            final Map.Entry<EventSubscription<?>, Node<T>> floor = this.tails.floorEntry(
+                subscription);
+            if (floor == null) {
+                node.next = this.head;
+                if (this.head != null) {
+                    this.head.prev = node;
+                }
+                this.head = node;
+            } else {
+                final Node<T> previous = floor.getValue();
+                node.prev = previous;
+                node.next = previous.next;
+                if (previous.next != null) {
+                    previous.next.prev = node;
+                }
+                previous.next = node;
+            }
+            // removed first, since replacing the value would keep the key of an older
+            // subscription, and everything its subscriber references, after it is removed
+            this.tails.remove(subscription);
+            this.tails.put(subscription, node);
+            final Node<T> same = this.nodesBySubscriber.remove(subscription.subscriber());
+            this.nodesBySubscriber.put(subscription.subscriber(), node);
+            if (same != null) {
+                node.nextSame = same;
+                same.prevSame = node;
+            }
+            this.size++;
+            if (subscription.subscriber() instanceof WeakSubscriber<T>) {
+                this.weakSize++;
+            }
+            this.changed();
+            return node;
         }
 
         @Override
         public synchronized void unsubscribe(EventSubscriber<T> subscriber) {
-            final List<EventSubscription<T>> current = new ArrayList<>(this.subscribers);
-            boolean removed = current.removeIf(
-                subscription -> subscription.subscriber().equals(subscriber));
-            if (removed) {
-                current.sort(Comparator.naturalOrder());
-                this.subscribers = Collections.unmodifiableList(current);
+            final boolean strong = this.unlinkAll(this.nodesBySubscriber.get(subscriber));
+            final boolean weak = this.weakSize > 0 && this.unlinkWeak(subscriber);
+            if (strong || weak) {
+                this.changed();
             }
         }
 
+        // weak subscriptions are indexed by their weak subscriber, which can't be looked up
+        // without creating another one, so they are searched for instead
+        private boolean unlinkWeak(final EventSubscriber<T> subscriber) {
+            boolean unlinked = false;
+            for (Node<T> node = this.head; node != null; ) {
+                final Node<T> next = node.next;
+                if (node.subscription.subscriber() instanceof WeakSubscriber<T> weak
+                    && weak.references(subscriber)) {
+                    this.unlink(node);
+                    unlinked = true;
+                }
+                node = next;
+            }
+            return unlinked;
+        }
+
+        private boolean unlinkAll(@Nullable Node<T> node) {
+            if (node == null) {
+                return false;
+            }
+            while (node != null) {
+                final Node<T> nextSame = node.nextSame;
+                this.unlink(node);
+                node = nextSame;
+            }
+            return true;
+        }
+
+        /**
+         * Removes the subscription held by the given node, if it is still present.
+         *
+         * @param node the node to remove
+         * @since 1.0.0
+         */
+        synchronized void remove(final Node<T> node) {
+            if (!node.removed) {
+                this.unlink(node);
+                this.changed();
+            }
+        }
+
+        /**
+         * Removes the subscriptions held by the given nodes that are still present, invalidating
+         * the dependent dispatches once.
+         *
+         * @param nodes the nodes to remove
+         * @since 1.0.0
+         */
+        @SuppressWarnings("unchecked")
+        synchronized void removeAll(final List<? extends Node<?>> nodes) {
+            boolean changed = false;
+            for (final Node<?> node : nodes) {
+                if (node.registration == this && !node.removed) {
+                    this.unlink((Node<T>) node);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                this.changed();
+            }
+        }
+
+        private void unlink(final Node<T> node) {
+            final EventSubscription<T> subscription = node.subscription;
+            if (this.tails.get(subscription) == node) {
+                this.tails.remove(subscription);
+                if (node.prev != null && node.prev.subscription.compareTo(subscription) == 0) {
+                    this.tails.put(node.prev.subscription, node.prev);
+                }
+            }
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                this.head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            }
+            if (node.prevSame != null) {
+                node.prevSame.nextSame = node.nextSame;
+            } else if (node.nextSame != null) {
+                this.nodesBySubscriber.remove(node.subscription.subscriber());
+                this.nodesBySubscriber.put(node.nextSame.subscription.subscriber(), node.nextSame);
+            } else {
+                this.nodesBySubscriber.remove(node.subscription.subscriber());
+            }
+            if (node.nextSame != null) {
+                node.nextSame.prevSame = node.prevSame;
+            }
+            node.removed = true;
+            this.size--;
+            if (subscription.subscriber() instanceof WeakSubscriber<T>) {
+                this.weakSize--;
+            }
+        }
+
+        private void changed() {
+            this.subscriptions = null;
+            for (final TypeDispatch<?> dependent : this.dependents) {
+                dependent.invalidate();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Event> EventSubscription<T>[] noSubscriptions() {
+            return (EventSubscription<T>[]) NO_SUBSCRIPTIONS;
+        }
+
         @Override
         public Key key() {
             return this.key;
@@ -212,7 +1283,8 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
         @Override
         public Stream<? extends ExaminableProperty> examinableProperties() {
             return Stream.concat(
-                Stream.of(ExaminableProperty.of("type", this.eventType.getCanonicalName())),
+                Stream.of(ExaminableProperty.of("type", this.eventType.getCanonicalName()),
+                    ExaminableProperty.of("subscribers", this.subscribers())),
                 super.examinableProperties());
         }
 
@@ -221,25 +1293,191 @@ public abstract class AbstractEventBus<C extends EventBusConfig> extends Abstrac
             return EventRegistrationImpl.class.getSimpleName();
         }
 
+        /**
+         * A node of the priority-ordered subscription list, also chained to the other nodes of
+         * the same subscriber. The node is itself the handle of its subscription.
+         *
+         * @param <T> the event type
+         * @since 1.0.0
+         */
+        @NullMarked
+        static final class Node<T extends Event> implements SubscriptionHandle {
+
+            final EventRegistrationImpl<T> registration;
+            final EventSubscription<T> subscription;
+            @Nullable Node<T> prev;
+            @Nullable Node<T> next;
+            @Nullable Node<T> prevSame;
+            @Nullable Node<T> nextSame;
+            volatile boolean removed;
+
+            Node(final EventRegistrationImpl<T> registration,
+                final EventSubscription<T> subscription) {
+                this.registration = registration;
+                this.subscription = subscription;
+            }
+
+            @Override
+            public boolean active() {
+                return !this.removed;
+            }
+
+            @Override
+            public void close() {
+                if (!this.removed) {
+                    this.registration.remove(this);
+                }
+            }
+
+        }
+
     }
 
     /**
-     * An event subscription, with ordering determined by priority.
+     * A handle of a subscription to a foreign registration, which does not invalidate this bus'
+     * dispatches by itself.
+     *
+     * @param bus       the bus
+     * @param eventType the event type
+     * @param handle    the registration's handle
+     * @since 1.0.0
+     */
+    @NullMarked
+    private record InvalidatingHandle(AbstractEventBus<?> bus, Class<?> eventType,
+                                      SubscriptionHandle handle) implements SubscriptionHandle {
+
+        @Override
+        public boolean active() {
+            return this.handle.active();
+        }
+
+        @Override
+        public void close() {
+            if (this.handle.active()) {
+                this.handle.close();
+                this.bus.invalidateDispatches(this.eventType);
+            }
+        }
+
+    }
+
+    /**
+     * Records the changes of a {@link SubscriptionTransaction} to apply them later through this
+     * bus.
+     *
+     * @since 1.0.0
+     */
+    @NullMarked
+    private final class SubscriptionTransactionImpl implements SubscriptionTransaction {
+
+        private final Set<Class<? extends Event>> eventTypes = new LinkedHashSet<>();
+        private final List<Runnable> changes = new ArrayList<>();
+
+        @Override
+        public <T extends Event> void subscribe(final Class<T> eventType,
+            final EventSubscriber<T> subscriber, final int priority,
+            final boolean acceptsCancelled, final SubscriptionOptions<T> options) {
+            nonNull(subscriber, "subscriber");
+            nonNull(options, "options");
+            this.eventTypes.add(nonNull(eventType, "eventType"));
+            this.changes.add(() -> AbstractEventBus.this.subscribe(eventType, subscriber, priority,
+                acceptsCancelled, options));
+        }
+
+        @Override
+        public <T extends Event> void subscribe(final Class<T> eventType,
+            final EventSubscriber<T> subscriber, final int priority,
+            final boolean acceptsCancelled) {
+            this.subscribe(eventType, subscriber, priority, acceptsCancelled,
+                SubscriptionOptions.defaults());
+        }
+
+        @Override
+        public <T extends Event> void subscribe(final Class<T> eventType,
+            final EventSubscriber<T> subscriber, final int priority) {
+            this.subscribe(eventType, subscriber, priority,
+                AbstractEventBus.this.config().acceptsCancelled());
+        }
+
+        @Override
+        public <T extends Event> void subscribe(final Class<T> eventType,
+            final EventSubscriber<T> subscriber) {
+            this.subscribe(eventType, subscriber, AbstractEventBus.this.config().priority(),
+                AbstractEventBus.this.config().acceptsCancelled());
+        }
+
+        @Override
+        public <T extends Event> void unsubscribe(final Class<T> eventType,
+            final EventSubscriber<T> subscriber) {
+            nonNull(subscriber, "subscriber");
+            this.eventTypes.add(nonNull(eventType, "eventType"));
+            this.changes.add(() -> AbstractEventBus.this.unsubscribe(eventType, subscriber));
+        }
+
+    }
+
+    /**
+     * An event subscription, with ordering determined by stage and priority.
      *
      * @param priority         the priority
      * @param acceptsCancelled the accepts cancelled option
      * @param subscriber       the handler function
+     * @param stage            the pipeline stage
+     * @param filter           the filter, or null
+     * @param match            the property match, or null
+     * @param metrics          the metrics, or null if the bus is not instrumented
      * @param <T>              the event type
      * @since 1.0.0
      */
     @NullMarked
     private record EventSubscriptionImpl<T extends Event>(int priority, boolean acceptsCancelled,
-                                                          EventSubscriber<T> subscriber) implements
-        EventSubscription<T> {
+                                                          EventSubscriber<T> subscriber,
+                                                          EventStage stage,
+                                                          @Nullable Predicate<? super T> filter,
+                                                          @Nullable PropertyMatch<? super T> match,
+                                                          @Nullable SubscriberMetrics metrics)
+        implements EventSubscription<T> {
+
+    }
+
+    /**
+     * A subscriber recording the time spent in its delegate. Batches handed over at once are
+     * recorded as a single invocation.
+     *
+     * @param delegate the subscriber
+     * @param metrics  the metrics to record to
+     * @param <T>      the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    private record InstrumentedSubscriber<T extends Event>(EventSubscriber<T> delegate,
+                                                           SubscriberMetrics metrics) implements
+        BatchEventSubscriber<T> {
 
         @Override
-        public int compareTo(final EventSubscription<?> that) {
-            return Integer.compare(this.priority, that.priority());
+        public void handle(final T event) {
+            final long start = System.nanoTime();
+            try {
+                this.delegate.handle(event);
+            } finally {
+                this.metrics.record(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void handleAll(final List<T> events) {
+            if (!(this.delegate instanceof BatchEventSubscriber<T> batch)) {
+                for (final T event : events) {
+                    this.handle(event);
+                }
+                return;
+            }
+            final long start = System.nanoTime();
+            try {
+                batch.handleAll(events);
+            } finally {
+                this.metrics.record(System.nanoTime() - start);
+            }
         }
 
     }
@@ -0,0 +1,411 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.EventBusConfig.ErrorPolicy;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.EventSubscription;
+import com.nayrid.event.bus.subscription.SubscriptionHandle;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import static com.nayrid.common.Validate.nonNull;
+
+/**
+ * An event bus that can run subscribers off the publishing thread.
+ *
+ * <p>Every subscription has an {@link ExecutionMode}. {@link ExecutionMode#SAME_THREAD}
+ * subscribers run on the thread dispatching the event, while the others are handed to a virtual
+ * thread or to a dedicated {@link Executor}. Subscribers of a plain event run concurrently.
+ * When a {@link CancellableEvent} is published through {@link #publish(CancellableEvent)},
+ * {@link #publishAsync(Event)} or {@link #publishAll(Class, List, BatchOrder)}, each of its
+ * subscribers that runs off the dispatching thread is still awaited, in priority order, before
+ * the next subscriber runs, so every subscriber observes the cancellation state left by the
+ * previous ones. Events delivered outside of these methods, such as coalesced events released by
+ * {@link #flush()}, only schedule such subscribers.</p>
+ *
+ * <p>{@link #publish(Event)} dispatches on the calling thread, whereas
+ * {@link #publishAsync(Event)} dispatches on a new virtual thread and never blocks the
+ * caller. Failures of subscribers that nothing awaits, like the scheduled subscribers of a plain
+ * event, are logged under {@link ErrorPolicy#LOG}, and otherwise handed to the uncaught
+ * exception handler of the thread they ran on.</p>
+ *
+ * <p>A {@link #pool(Class, PoolingConfig) pooled} event is released once every subscriber it was
+ * scheduled for has handled it, so the future returned by {@link #publishAsync(Event)} must not
+ * be used to read a pooled event.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public class AsyncEventBus extends AbstractEventBus<EventBusConfig> {
+
+    private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual()
+        .name("event-dispatch-", 0)
+        .factory();
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = task -> VIRTUAL_THREADS.newThread(task)
+        .start();
+    private static final ThreadLocal<@Nullable Dispatch> DISPATCH = new ThreadLocal<>();
+
+    private final ExecutionMode executionMode;
+
+    AsyncEventBus(final EventBusConfig config, final ExecutionMode executionMode) {
+        super(config);
+        this.executionMode = nonNull(executionMode, "executionMode");
+    }
+
+    /**
+     * Creates a new {@link AsyncEventBus} whose subscribers run on a virtual thread by default.
+     *
+     * @param config the configuration
+     * @return an event bus
+     * @since 1.0.0
+     */
+    public static AsyncEventBus create(final EventBusConfig config) {
+        return create(config, ExecutionMode.VIRTUAL_THREAD);
+    }
+
+    /**
+     * Creates a new {@link AsyncEventBus}.
+     *
+     * @param config        the configuration
+     * @param executionMode the execution mode subscribers are registered with by default
+     * @return an event bus
+     * @since 1.0.0
+     */
+    public static AsyncEventBus create(final EventBusConfig config,
+        final ExecutionMode executionMode) {
+        return new AsyncEventBus(config, executionMode);
+    }
+
+    /**
+     * Publishes an event to all subscribers, dispatching it on a new virtual thread.
+     *
+     * @param event the event instance
+     * @param <T>   the event type
+     * @return a future completed with the event once every subscriber has handled it
+     * @since 1.0.0
+     */
+    public <T extends Event> CompletableFuture<T> publishAsync(final T event) {
+        nonNull(event, "event");
+        return CompletableFuture.supplyAsync(() -> this.dispatch(event, true),
+                VIRTUAL_THREAD_EXECUTOR)
+            .thenCompose(Dispatch::completion)
+            .thenApply(ignored -> event);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>{@link ExecutionMode#SAME_THREAD} subscribers run on the calling thread. Other
+     * subscribers of a plain event are only scheduled, while those of a {@link CancellableEvent}
+     * are awaited before the next subscriber runs.</p>
+     */
+    @Override
+    public <T extends Event> void publish(final T event) {
+        this.dispatch(event, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns only once every subscriber has handled the event.</p>
+     */
+    @Override
+    public <T extends CancellableEvent> boolean publish(final T event) {
+        final Dispatch outer = DISPATCH.get();
+        DISPATCH.set(new Dispatch(true, false));
+        try {
+            // reads whether a pooled event was cancelled before it is released
+            return super.publish(event);
+        } finally {
+            DISPATCH.set(outer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The batch is dispatched on the calling thread, like {@link #publish(Event)}.</p>
+     */
+    @Override
+    public <T extends Event> void publishAll(final Class<T> eventType,
+        final List<? extends T> events, final BatchOrder order) {
+        final Dispatch outer = DISPATCH.get();
+        DISPATCH.set(new Dispatch(CancellableEvent.class.isAssignableFrom(eventType), false));
+        try {
+            super.publishAll(eventType, events, order);
+        } finally {
+            DISPATCH.set(outer);
+        }
+    }
+
+    private Dispatch dispatch(final Event event, final boolean awaited) {
+        final Dispatch dispatch = new Dispatch(event instanceof CancellableEvent, awaited);
+        final Dispatch outer = DISPATCH.get();
+        DISPATCH.set(dispatch);
+        try {
+            super.publish(event);
+        } finally {
+            DISPATCH.set(outer);
+        }
+        return dispatch;
+    }
+
+    /**
+     * Subscribes to an event with a given event type and execution mode.
+     *
+     * @param eventType        the event class
+     * @param subscriber       the event subscriber
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription should accept cancelled events
+     * @param executionMode    where the subscriber runs
+     * @param <T>              the event type
+     * @return a handle removing the subscription when closed
+     * @since 1.0.0
+     */
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled,
+        final ExecutionMode executionMode) {
+        return this.subscribe(eventType, subscriber, priority, acceptsCancelled,
+            SubscriptionOptions.defaults(), executor(nonNull(executionMode, "executionMode")));
+    }
+
+    /**
+     * Subscribes to an event with a given event type, running the subscriber on a dedicated
+     * executor.
+     *
+     * @param eventType        the event class
+     * @param subscriber       the event subscriber
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription should accept cancelled events
+     * @param executor         the executor the subscriber runs on
+     * @param <T>              the event type
+     * @return a handle removing the subscription when closed
+     * @since 1.0.0
+     */
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled,
+        final Executor executor) {
+        return this.subscribe(eventType, subscriber, priority, acceptsCancelled,
+            SubscriptionOptions.defaults(), nonNull(executor, "executor"));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The subscriber is registered with this bus' default {@link ExecutionMode}. Its filter
+     * is evaluated on the dispatching thread, before the subscriber is scheduled.</p>
+     */
+    @Override
+    public <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled,
+        final SubscriptionOptions<T> options) {
+        return this.subscribe(eventType, subscriber, priority, acceptsCancelled, options,
+            executor(this.executionMode));
+    }
+
+    private <T extends Event> SubscriptionHandle subscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber, final int priority, final boolean acceptsCancelled,
+        final SubscriptionOptions<T> options, final @Nullable Executor executor) {
+        return this.subscribeWrapped(eventType, subscriber, priority, acceptsCancelled, options,
+            target -> new AsyncSubscriber<>(target, executor, this.config.errorPolicy()));
+    }
+
+    private static @Nullable Executor executor(final ExecutionMode executionMode) {
+        return executionMode == ExecutionMode.VIRTUAL_THREAD ? VIRTUAL_THREAD_EXECUTOR : null;
+    }
+
+    @Override
+    public <T extends Event> void unsubscribe(final Class<T> eventType,
+        final EventSubscriber<T> subscriber) {
+        final EventRegistration<T> registration = nonNull(this.getOrCreateRegistration(eventType),
+            "event registration for event type: '" + eventType.getCanonicalName() + "'");
+        for (final EventSubscription<T> subscription : registration.subscribers()) {
+            if (subscription.subscriber() instanceof AsyncSubscriber<T> async
+                && (async.subscriber.equals(subscriber)
+                || async.subscriber instanceof WeakSubscriber<T> weak
+                && weak.references(subscriber))) {
+                super.unsubscribe(eventType, async);
+            }
+        }
+    }
+
+    // subscribers may still use an event after its dispatch returned, on other threads
+    @Override
+    <T extends Event> EventPool<T> newPool(final PoolingConfig<T> config) {
+        return EventPool.shared(config, AsyncEventBus::released);
+    }
+
+    // releases an event once every subscriber the current dispatch scheduled has handled it
+    private static void released(final Runnable release) {
+        final Dispatch dispatch = DISPATCH.get();
+        if (dispatch == null || dispatch.pending.isEmpty()) {
+            release.run();
+        } else {
+            dispatch.completion().whenComplete((ignored, failure) -> release.run());
+        }
+    }
+
+    /**
+     * Gets the execution mode subscribers are registered with by default.
+     *
+     * @return the default execution mode
+     * @since 1.0.0
+     */
+    public ExecutionMode executionMode() {
+        return this.executionMode;
+    }
+
+    @Override
+    public String examinableName() {
+        return AsyncEventBus.class.getSimpleName();
+    }
+
+    /**
+     * Where a subscriber of an {@link AsyncEventBus} runs.
+     *
+     * @since 1.0.0
+     */
+    public enum ExecutionMode {
+
+        /**
+         * On the thread dispatching the event.
+         *
+         * @since 1.0.0
+         */
+        SAME_THREAD,
+
+        /**
+         * On a new virtual thread for every event.
+         *
+         * @since 1.0.0
+         */
+        VIRTUAL_THREAD
+
+    }
+
+    /**
+     * The state of a single dispatch, tracking the subscribers that are still running.
+     *
+     * @since 1.0.0
+     */
+    @NullMarked
+    private static final class Dispatch {
+
+        private final boolean sequential;
+        // if the caller waits for every subscriber, and sees their failures
+        private final boolean awaited;
+        private final List<CompletableFuture<?>> pending = new ArrayList<>();
+
+        Dispatch(final boolean sequential, final boolean awaited) {
+            this.sequential = sequential;
+            this.awaited = awaited;
+        }
+
+        CompletableFuture<Void> completion() {
+            return CompletableFuture.allOf(this.pending.toArray(CompletableFuture[]::new));
+        }
+
+    }
+
+    /**
+     * A subscriber that runs its delegate on an executor, or inline if it has none.
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    private static final class AsyncSubscriber<T extends Event> implements EventSubscriber<T> {
+
+        private final EventSubscriber<T> subscriber;
+        private final @Nullable Executor executor;
+        private final ErrorPolicy errorPolicy;
+
+        AsyncSubscriber(final EventSubscriber<T> subscriber, final @Nullable Executor executor,
+            final ErrorPolicy errorPolicy) {
+            this.subscriber = nonNull(subscriber, "subscriber");
+            this.executor = executor;
+            this.errorPolicy = errorPolicy;
+        }
+
+        @Override
+        public void handle(final T event) {
+            if (this.executor == null) {
+                this.subscriber.handle(event);
+                return;
+            }
+            final Dispatch dispatch = DISPATCH.get();
+            if (dispatch == null) {
+                this.executor.execute(() -> this.handleUnawaited(event));
+                return;
+            }
+            final CompletableFuture<Void> future = dispatch.sequential || dispatch.awaited
+                ? CompletableFuture.runAsync(() -> this.subscriber.handle(event), this.executor)
+                : CompletableFuture.runAsync(() -> this.handleUnawaited(event), this.executor);
+            if (dispatch.sequential) {
+                try {
+                    future.join();
+                } catch (final CompletionException exception) {
+                    if (exception.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    if (exception.getCause() instanceof Error cause) {
+                        throw cause;
+                    }
+                    throw exception;
+                }
+            } else {
+                dispatch.pending.add(future);
+            }
+        }
+
+        // nothing sees the failures of the subscriber, so it reports them where it ran
+        private void handleUnawaited(final T event) {
+            try {
+                this.subscriber.handle(event);
+            } catch (final RuntimeException exception) {
+                if (this.errorPolicy == ErrorPolicy.LOG) {
+                    EventDispatcher.failed(ErrorPolicy.LOG, event, this.subscriber, exception,
+                        null);
+                } else {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+                }
+            }
+        }
+
+    }
+
+}
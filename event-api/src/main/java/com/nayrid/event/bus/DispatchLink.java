@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single link of a compiled dispatcher chain.
+ *
+ * <p>This class is a template: {@link EventDispatcher.Linker} defines a fresh hidden class from
+ * its bytes for every position of a chain, so it must stay free of nested classes and lambdas.</p>
+ *
+ * <p>Besides the next link, every link knows the next link accepting cancelled events. Once the
+ * event is cancelled, dispatch continues there, skipping the links in between without visiting
+ * them. For event types that can't be cancelled, both are the same link.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+final class DispatchLink<T extends Event> extends EventDispatcher<T> {
+
+    private final EventSubscriber<T> subscriber;
+    private final @Nullable Predicate<? super T> filter;
+    private final boolean skipCancelled;
+    private final EventDispatcher<T> next;
+    private final EventDispatcher<T> cancelledNext;
+
+    DispatchLink(final EventSubscriber<T> subscriber, final @Nullable Predicate<? super T> filter,
+        final boolean skipCancelled, final EventDispatcher<T> next,
+        final EventDispatcher<T> cancelledNext) {
+        this.subscriber = subscriber;
+        this.filter = filter;
+        this.skipCancelled = skipCancelled;
+        this.next = next;
+        this.cancelledNext = cancelledNext;
+    }
+
+    @Override
+    void dispatch(final T event) {
+        // only the head of a chain can be reached with an event it has to skip
+        if ((!this.skipCancelled || !((CancellableEvent) event).cancelled())
+            && (this.filter == null || this.filter.test(event))) {
+            this.subscriber.handle(event);
+        }
+        if (this.cancelledNext != this.next && ((CancellableEvent) event).cancelled()) {
+            this.cancelledNext.dispatch(event);
+        } else {
+            this.next.dispatch(event);
+        }
+    }
+
+}
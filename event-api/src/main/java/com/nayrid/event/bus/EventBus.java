@@ -25,12 +25,22 @@ package com.nayrid.event.bus;
 
 import com.nayrid.event.CancellableEvent;
 import com.nayrid.event.Event;
+import com.nayrid.event.annotation.Subscribe;
 import com.nayrid.event.bus.AbstractEventBus.EventRegistrationImpl;
+import com.nayrid.event.bus.config.CoalescingConfig;
 import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.subscription.BatchEventSubscriber;
 import com.nayrid.event.bus.subscription.EventSubscriber;
 import com.nayrid.event.bus.subscription.EventSubscription;
+import com.nayrid.event.bus.subscription.SubscriptionHandle;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import com.nayrid.event.bus.subscription.SubscriptionScope;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.key.Keyed;
 import net.kyori.examination.Examinable;
@@ -64,6 +74,35 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
      */
     <T extends Event> void publish(T event);
 
+    /**
+     * Publishes an event of exactly the given type to all subscribers, only creating it if any
+     * subscriber would receive it.
+     *
+     * <p>For events that are published whether or not anything listens, this skips constructing
+     * them, as well as dispatching them, while nothing does.</p>
+     *
+     * @param eventType the event class, which the supplied event must be an instance of exactly
+     * @param supplier  creates the event
+     * @param <T>       the event type
+     * @since 1.0.0
+     */
+    default <T extends Event> void publish(final Class<T> eventType,
+        final Supplier<? extends T> supplier) {
+        if (this.hasSubscribers(eventType)) {
+            this.publish(supplier.get());
+        }
+    }
+
+    /**
+     * Gets if publishing an event of exactly the given type would reach any subscriber, including
+     * the subscribers of its supertypes.
+     *
+     * @param eventType the event class
+     * @return if the event type has subscribers
+     * @since 1.0.0
+     */
+    boolean hasSubscribers(Class<? extends Event> eventType);
+
     /**
      * Publishes a cancellable event to all subscribers and returns {@code true} if the event was
      * <strong><u>not</u></strong> cancelled.
@@ -78,6 +117,69 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
         return !event.cancelled();
     }
 
+    /**
+     * Publishes a batch of events of the same type to all subscribers, one event at a time.
+     *
+     * @param eventType the event class
+     * @param events    the events
+     * @param <T>       the event type
+     * @since 1.0.0
+     */
+    default <T extends Event> void publishAll(final Class<T> eventType,
+        final List<? extends T> events) {
+        this.publishAll(eventType, events, BatchOrder.EVENT_MAJOR);
+    }
+
+    /**
+     * Publishes a batch of events of the same type to all subscribers, one event at a time.
+     *
+     * @param eventType the event class
+     * @param events    the events
+     * @param <T>       the event type
+     * @since 1.0.0
+     */
+    default <T extends Event> void publishAll(final Class<T> eventType, final T[] events) {
+        this.publishAll(eventType, Arrays.asList(events), BatchOrder.EVENT_MAJOR);
+    }
+
+    /**
+     * Publishes a batch of events of the same type to all subscribers.
+     *
+     * <p>With {@link BatchOrder#SUBSCRIBER_MAJOR}, a {@link BatchEventSubscriber} receives the
+     * events it accepts in a single call.</p>
+     *
+     * @param eventType the event class
+     * @param events    the events
+     * @param order     the order events and subscribers are iterated in
+     * @param <T>       the event type
+     * @since 1.0.0
+     */
+    default <T extends Event> void publishAll(final Class<T> eventType,
+        final List<? extends T> events, final BatchOrder order) {
+        for (final T event : events) {
+            this.publish(event);
+        }
+    }
+
+    /**
+     * Subscribes to an event with a given event type and options.
+     *
+     * <p>Subscriptions run by {@link SubscriptionOptions#stage() stage} first, then by priority.
+     * The {@link SubscriptionOptions#filter() filter}, if any, is evaluated before the subscriber
+     * on every event.</p>
+     *
+     * @param eventType        the event class
+     * @param subscriber       the event subscriber
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription should accept cancelled events
+     * @param options          the subscription options
+     * @param <T>              the event type
+     * @return a handle removing the subscription when closed
+     * @since 1.0.0
+     */
+    <T extends Event> SubscriptionHandle subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
+        int priority, boolean acceptsCancelled, SubscriptionOptions<T> options);
+
     /**
      * Subscribes to an event with a given event type.
      *
@@ -86,9 +188,10 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
      * @param priority         the subscription priority
      * @param acceptsCancelled if the subscription should accept cancelled events
      * @param <T>              the event type
+     * @return a handle removing the subscription when closed
      * @since 1.0.0
      */
-    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
+    <T extends Event> SubscriptionHandle subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
         int priority, boolean acceptsCancelled);
 
     /**
@@ -98,9 +201,10 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
      * @param subscriber the event subscriber
      * @param priority   the subscription priority
      * @param <T>        the event type
+     * @return a handle removing the subscription when closed
      * @since 1.0.0
      */
-    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
+    <T extends Event> SubscriptionHandle subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
         int priority);
 
     /**
@@ -109,9 +213,10 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
      * @param eventType  the event class
      * @param subscriber the event subscriber
      * @param <T>        the event type
+     * @return a handle removing the subscription when closed
      * @since 1.0.0
      */
-    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber);
+    <T extends Event> SubscriptionHandle subscribe(Class<T> eventType, EventSubscriber<T> subscriber);
 
     /**
      * Unsubscribes from an event using its event type.
@@ -123,6 +228,97 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
      */
     <T extends Event> void unsubscribe(Class<T> eventType, EventSubscriber<T> subscriber);
 
+    /**
+     * Subscribes every {@link Subscribe} method of a listener.
+     *
+     * @param listener the listener
+     * @return a scope holding the listener's subscriptions, removing them when closed
+     * @throws IllegalArgumentException if a {@link Subscribe} method is invalid
+     * @since 1.0.0
+     */
+    SubscriptionScope register(Object listener);
+
+    /**
+     * Applies a set of subscription changes together.
+     *
+     * <p>Each affected registration rebuilds its subscriber snapshot once for the whole
+     * transaction, and publishers never observe a registration with only part of the
+     * transaction's changes applied.</p>
+     *
+     * @param transaction a function recording the changes
+     * @since 1.0.0
+     */
+    void batch(Consumer<? super SubscriptionTransaction> transaction);
+
+    /**
+     * Coalesces the events of a type. Instead of being dispatched when published, events of
+     * exactly {@code eventType} are merged into the pending events, which are dispatched when
+     * flushed.
+     *
+     * <p>Pending events are flushed by {@link #flush()}, or after the config's
+     * {@link CoalescingConfig#window() window} on a shared background thread. Coalescing a type
+     * again replaces its config, flushing the events pending under the previous one.</p>
+     *
+     * @param eventType the event class
+     * @param config    the coalescing config
+     * @param <T>       the event type
+     * @throws IllegalArgumentException if the event type is cancellable or abstract
+     * @throws IllegalStateException    if the event type is pooled
+     * @since 1.0.0
+     */
+    <T extends Event> void coalesce(Class<T> eventType, CoalescingConfig<T> config);
+
+    /**
+     * Pools the instances of an event type. Events of exactly {@code eventType} are
+     * {@link #acquire(Class) acquired} from the pool, populated and published, and are released
+     * back into the pool as soon as every subscriber handled them.
+     *
+     * <p>Pooled events must be published at most once per acquisition, and neither the publisher
+     * nor subscribers may keep a reference to them once dispatched. Pooling a type again replaces
+     * its pool.</p>
+     *
+     * @param eventType the event class
+     * @param config    the pooling config
+     * @param <T>       the event type
+     * @throws IllegalArgumentException if the event type is abstract
+     * @throws IllegalStateException    if the event type is coalesced
+     * @since 1.0.0
+     */
+    <T extends Event> void pool(Class<T> eventType, PoolingConfig<T> config);
+
+    /**
+     * Acquires an event from the pool of its type, on the calling thread.
+     *
+     * @param eventType the event class
+     * @param <T>       the event type
+     * @return an idle event, to be populated and published
+     * @throws IllegalStateException if the event type is not pooled
+     * @since 1.0.0
+     */
+    <T extends Event> T acquire(Class<T> eventType);
+
+    /**
+     * Dispatches every pending coalesced event on the calling thread, for example at a tick
+     * boundary. Every pending event is dispatched even if subscribers throw, the exceptions being
+     * thrown once done, the first one suppressing the others.
+     *
+     * @since 1.0.0
+     */
+    void flush();
+
+    /**
+     * Gets the event registration by id.
+     *
+     * <p>Ids are dense and assigned in registration order, so they are only meaningful to the bus
+     * that assigned them.</p>
+     *
+     * @param id  the registration id
+     * @param <T> the event type
+     * @return the registration, or null if none exists
+     * @since 1.0.0
+     */
+    <T extends Event> @Nullable EventRegistration<T> get(int id);
+
     /**
      * Gets the event registration by key.
      *
@@ -159,6 +355,33 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
      */
     C config();
 
+    /**
+     * The order a batch of events is delivered in.
+     *
+     * @since 1.0.0
+     */
+    enum BatchOrder {
+
+        /**
+         * Every subscriber handles an event before the next event is dispatched, exactly as if
+         * the events were published one by one.
+         *
+         * @since 1.0.0
+         */
+        EVENT_MAJOR,
+
+        /**
+         * A subscriber handles every event of the batch before the next subscriber runs. Each
+         * event still sees its subscribers in priority order, but subscribers observe the batch
+         * interleaved differently. This keeps a single subscriber's code and state hot in the
+         * cache across the batch.
+         *
+         * @since 1.0.0
+         */
+        SUBSCRIBER_MAJOR
+
+    }
+
     /**
      * A registration for a specific event.
      *
@@ -171,17 +394,26 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
         /**
          * Creates an {@link EventRegistration}.
          *
+         * @param id        the registration id
          * @param key       the event key
          * @param eventType the event class
          * @param <T>       the event type
          * @return a new event registration
          * @since 1.0.0
          */
-        static <T extends Event> EventRegistration<T> create(final Key key,
+        static <T extends Event> EventRegistration<T> create(final int id, final Key key,
             final Class<T> eventType) {
-            return new EventRegistrationImpl<>(key, eventType);
+            return new EventRegistrationImpl<>(id, key, eventType);
         }
 
+        /**
+         * Returns the registration's id, assigned by its bus.
+         *
+         * @return the registration id
+         * @since 1.0.0
+         */
+        int id();
+
         /**
          * Returns the event's type.
          *
@@ -202,9 +434,10 @@ public interface EventBus<C extends EventBusConfig> extends Examinable {
          * Subscribes with the given subscription.
          *
          * @param subscription the subscription to add
+         * @return a handle removing the subscription when closed
          * @since 1.0.0
          */
-        void subscribe(EventSubscription<T> subscription);
+        SubscriptionHandle subscribe(EventSubscription<T> subscription);
 
         /**
          * Unsubscribes the given subscriber.
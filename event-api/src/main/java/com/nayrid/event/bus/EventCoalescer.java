@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.AbstractEventBus.TypeDispatch;
+import com.nayrid.event.bus.config.CoalescingConfig;
+import com.nayrid.event.bus.subscription.EventProperty;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A dispatcher holding back the events of a coalesced type, merging them until they are
+ * flushed.
+ *
+ * <p>A coalescer is published in place of its type's dispatcher, so publishing a coalesced event
+ * only merges it into the pending events. Flushing dispatches every pending event, in the order
+ * their groups were first published, to the subscribers of the type. Exceptions thrown by a
+ * flush the {@link CoalescingConfig#window() window} scheduled are handed to the uncaught
+ * exception handler of the scheduler thread, since nothing else could observe them.</p>
+ *
+ * <p>Like its {@link TypeDispatch}, a coalescer must never reference the bus.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+final class EventCoalescer<T extends Event> extends EventDispatcher<T> {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors
+        .newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("event-coalescer")
+            .daemon()
+            .factory());
+    private static final Object SINGLE_GROUP = new Object();
+
+    private final TypeDispatch<T> dispatch;
+    private final CoalescingConfig<T> config;
+    // guarded by this
+    private final Map<@Nullable Object, T> pending = new LinkedHashMap<>();
+    private boolean scheduled;
+
+    EventCoalescer(final TypeDispatch<T> dispatch, final CoalescingConfig<T> config) {
+        this.dispatch = dispatch;
+        this.config = config;
+    }
+
+    @Override
+    void dispatch(final T event) {
+        final EventProperty<? super T, ?> groupBy = this.config.groupBy();
+        final Object group = groupBy == null ? SINGLE_GROUP : groupBy.get(event);
+        final Duration window = this.config.window();
+        synchronized (this) {
+            this.pending.merge(group, event, this.config.merge());
+            if (window == null || this.scheduled) {
+                return;
+            }
+            this.scheduled = true;
+        }
+        SCHEDULER.schedule(this::flushScheduled, window.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Collects an exception thrown while flushing, suppressed by the first one.
+     *
+     * @param failure   the first exception, or null
+     * @param exception the exception
+     * @return the exception to throw once done
+     * @since 1.0.0
+     */
+    static RuntimeException failed(final @Nullable RuntimeException failure,
+        final RuntimeException exception) {
+        if (failure == null) {
+            return exception;
+        }
+        failure.addSuppressed(exception);
+        return failure;
+    }
+
+    /**
+     * Dispatches every pending event to the subscribers of the type, on the calling thread.
+     * Every event is dispatched even if subscribers throw, their exceptions being thrown once
+     * done, the first one suppressing the others.
+     *
+     * @since 1.0.0
+     */
+    void flush() {
+        final List<T> events;
+        synchronized (this) {
+            if (this.pending.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<>(this.pending.values());
+            this.pending.clear();
+            this.scheduled = false;
+        }
+        final EventDispatcher<T> subscribers = this.dispatch.subscribersDispatcher();
+        RuntimeException failure = null;
+        for (final T event : events) {
+            try {
+                subscribers.dispatch(event);
+            } catch (final RuntimeException exception) {
+                failure = failed(failure, exception);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void flushScheduled() {
+        try {
+            this.flush();
+        } catch (final RuntimeException exception) {
+            // nobody waits on a scheduled flush, so report like any thread dispatching on its own
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.config.EventBusConfig.ErrorPolicy;
+import java.io.Serial;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Thrown by a bus with the {@link ErrorPolicy#COLLECT} error policy once every subscriber got to
+ * handle an event, if any of them threw an exception.
+ *
+ * <p>The first exception is the cause of this one, and the others are suppressed by it.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public final class EventDispatchException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient Event event;
+    private final transient List<Exception> failures;
+
+    /**
+     * Creates an {@link EventDispatchException}.
+     *
+     * @param event    the event being dispatched
+     * @param failures the exceptions thrown by subscribers, in dispatch order
+     * @since 1.0.0
+     */
+    public EventDispatchException(final Event event, final List<? extends Exception> failures) {
+        super("%d subscriber(s) failed to handle %s".formatted(failures.size(),
+            event.getClass().getName()), failures.isEmpty() ? null : failures.getFirst());
+        this.event = event;
+        this.failures = List.copyOf(failures);
+        for (int i = 1; i < this.failures.size(); i++) {
+            this.addSuppressed(this.failures.get(i));
+        }
+    }
+
+    /**
+     * Gets the event being dispatched.
+     *
+     * @return the event
+     * @since 1.0.0
+     */
+    public Event event() {
+        return this.event;
+    }
+
+    /**
+     * Gets the exceptions thrown by subscribers.
+     *
+     * @return the exceptions, in dispatch order
+     * @since 1.0.0
+     */
+    public List<Exception> failures() {
+        return this.failures;
+    }
+
+}
@@ -0,0 +1,785 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.config.EventBusConfig.ErrorPolicy;
+import com.nayrid.event.bus.subscription.EventProperty;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.EventSubscription;
+import com.nayrid.event.bus.subscription.PropertyMatch;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A specialized invoker for a fixed, priority-ordered set of subscriptions.
+ *
+ * <p>Dispatchers are immutable and are rebuilt by their owner whenever its subscriptions
+ * change, so that publishing only needs to read a single field.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+abstract class EventDispatcher<T extends Event> {
+
+    private static final EventDispatcher<?> EMPTY = new EmptyDispatcher<>();
+    private static final Logger LOGGER = System.getLogger(EventDispatcher.class.getName());
+
+    EventDispatcher() {
+    }
+
+    /**
+     * Gets the dispatcher that does nothing.
+     *
+     * @param <T> the event type
+     * @return the empty dispatcher
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Event> EventDispatcher<T> empty() {
+        return (EventDispatcher<T>) EMPTY;
+    }
+
+    /**
+     * Delivers the event to every subscriber of this dispatcher.
+     *
+     * @param event the event
+     * @since 1.0.0
+     */
+    abstract void dispatch(T event);
+
+    /**
+     * Handles an exception thrown by a subscriber under an error policy other than
+     * {@link ErrorPolicy#PROPAGATE}.
+     *
+     * @param policy     the error policy
+     * @param event      the event being dispatched
+     * @param subscriber the subscriber that threw
+     * @param exception  the exception
+     * @param failures   the exceptions collected so far for the event, or null
+     * @return the exceptions collected for the event, or null
+     * @since 1.0.0
+     */
+    static @Nullable List<Exception> failed(final ErrorPolicy policy, final Event event,
+        final EventSubscriber<?> subscriber, final Exception exception,
+        final @Nullable List<Exception> failures) {
+        if (policy == ErrorPolicy.LOG) {
+            LOGGER.log(Level.WARNING, () -> "Subscriber %s failed to handle %s".formatted(
+                subscriber.getClass().getName(), event.getClass().getName()), exception);
+            return failures;
+        }
+        final List<Exception> collected = failures != null ? failures : new ArrayList<>(1);
+        collected.add(exception);
+        return collected;
+    }
+
+    /**
+     * Hands an event no subscriber received to the dead-letter subscriber, if any.
+     *
+     * @param deadLetters the dead-letter subscriber, or null
+     * @param event       the event
+     * @param <T>         the event type
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Event> void unreceived(final @Nullable EventSubscriber<? super T> deadLetters,
+        final T event) {
+        if (deadLetters != null) {
+            ((EventSubscriber<T>) deadLetters).handle(event);
+        }
+    }
+
+    /**
+     * Builds dispatchers out of a chain of {@link DispatchLink} copies, each defined as its own
+     * hidden class.
+     *
+     * <p>Since every position in the chain is a distinct class, the JIT profiles each
+     * {@link EventSubscriber#handle(Event)} call site separately and sees a single receiver type,
+     * letting it inline the whole fan-out instead of going through one megamorphic call site.
+     * Link classes are kept per linker and reused across rebuilds, so hidden classes are only
+     * defined when the chain grows.</p>
+     *
+     * <p>The price is one hidden class per position of the longest chain of every event type, in
+     * every bus, each holding metaspace and code cache for as long as the bus is reachable. Those
+     * classes are drawn from a budget of {@link #MAX_LINK_CLASSES} shared by every linker: once a
+     * chain would exceed what is left of it, the chain falls back to the array loop, trading the
+     * inlined fan-out for a bounded class count. A linker keeps the classes it already defined,
+     * so chains that fit into them stay linked.</p>
+     *
+     * <p>Chains longer than {@link #MAX_LINKED_SUBSCRIBERS}, or environments where hidden classes
+     * cannot be defined, fall back to a plain array loop as well. Subscriptions with a
+     * {@link EventSubscription#match() property match} are dispatched through an index of their
+     * values instead.</p>
+     *
+     * <p>Under an error policy isolating subscribers from each other's exceptions, chains are
+     * not linked either: a loop resumes after a failed subscriber from a single handler wrapping
+     * the remaining iteration, so that the iteration itself stays free of exception handling.</p>
+     *
+     * <p>With a dead-letter subscriber, events no subscriber receives are handed to it. Chains
+     * containing a subscription that receives every event, one without a filter or a property
+     * match that accepts cancelled events, are linked as usual. The others are dispatched by a
+     * loop tracking whether any subscriber received the event.</p>
+     *
+     * @since 1.0.0
+     */
+    @NullMarked
+    static final class Linker {
+
+        static final int MAX_LINKED_SUBSCRIBERS = 128;
+        static final int MAX_LINK_CLASSES = 4096;
+
+        private static final AtomicInteger LINK_CLASSES = new AtomicInteger(MAX_LINK_CLASSES);
+
+        private static final MethodType LINK_CONSTRUCTOR = MethodType.methodType(
+            EventDispatcher.class, EventSubscriber.class, Predicate.class, boolean.class,
+            EventDispatcher.class, EventDispatcher.class);
+        private static final byte @Nullable [] LINK_TEMPLATE = readLinkTemplate();
+
+        // the hidden classes left to define, shared by every linker using it
+        private final AtomicInteger remainingLinks;
+        // guarded by this, like every rebuild through this linker
+        private final List<MethodHandle> links = new ArrayList<>();
+        private boolean linkingSupported = LINK_TEMPLATE != null;
+
+        Linker() {
+            this(LINK_CLASSES);
+        }
+
+        /**
+         * Creates a linker drawing its hidden classes from the given budget.
+         *
+         * @param remainingLinks the number of hidden classes left to define
+         * @since 1.0.0
+         */
+        Linker(final AtomicInteger remainingLinks) {
+            this.remainingLinks = remainingLinks;
+        }
+
+        /**
+         * Builds a dispatcher for the given, already sorted, subscriptions.
+         *
+         * @param subscriptions the subscriptions, in priority order
+         * @param cancellable   if the event type is a {@link CancellableEvent}
+         * @param <T>           the event type
+         * @return a dispatcher
+         * @since 1.0.0
+         */
+        <T extends Event> EventDispatcher<T> link(
+            final List<? extends EventSubscription<T>> subscriptions, final boolean cancellable) {
+            return this.link(subscriptions, cancellable, ErrorPolicy.PROPAGATE, null);
+        }
+
+        /**
+         * Builds a dispatcher for the given, already sorted, subscriptions.
+         *
+         * @param subscriptions the subscriptions, in priority order
+         * @param cancellable   if the event type is a {@link CancellableEvent}
+         * @param policy        what happens when a subscriber throws an exception
+         * @param deadLetters   the subscriber of events no subscription receives, or null
+         * @param <T>           the event type
+         * @return a dispatcher
+         * @since 1.0.0
+         */
+        synchronized <T extends Event> EventDispatcher<T> link(
+            final List<? extends EventSubscription<T>> subscriptions, final boolean cancellable,
+            final ErrorPolicy policy, final @Nullable EventSubscriber<? super T> deadLetters) {
+            if (subscriptions.isEmpty()) {
+                return deadLetters != null ? new DeadLetterDispatcher<>(deadLetters) : empty();
+            }
+            for (final EventSubscription<T> subscription : subscriptions) {
+                if (subscription.match() != null) {
+                    return indexed(subscriptions, cancellable, policy, deadLetters);
+                }
+            }
+            final EventSubscriber<? super T> unreceived = deadLetters != null
+                && !receivesEverything(subscriptions, cancellable) ? deadLetters : null;
+            if (policy != ErrorPolicy.PROPAGATE) {
+                return isolating(subscriptions, cancellable, policy, unreceived);
+            }
+            if (unreceived == null && this.linkingSupported
+                && subscriptions.size() <= MAX_LINKED_SUBSCRIBERS
+                && this.reserveLinks(subscriptions.size())) {
+                try {
+                    EventDispatcher<T> next = empty();
+                    EventDispatcher<T> cancelledNext = empty();
+                    for (int i = subscriptions.size() - 1; i >= 0; i--) {
+                        final EventSubscription<T> subscription = subscriptions.get(i);
+                        final boolean skipCancelled = cancellable
+                            && !subscription.acceptsCancelled();
+                        next = this.link(i, subscription.subscriber(), subscription.filter(),
+                            skipCancelled, next, cancellable ? cancelledNext : next);
+                        if (!skipCancelled) {
+                            cancelledNext = next;
+                        }
+                    }
+                    return next;
+                } catch (final ReflectiveOperationException | LinkageError |
+                               UnsupportedOperationException | SecurityException exception) {
+                    this.linkingSupported = false;
+                }
+            }
+            return loop(subscriptions, cancellable, unreceived);
+        }
+
+        /**
+         * Checks if any of the subscriptions receives every event, because it neither filters
+         * events nor skips cancelled ones.
+         *
+         * @param subscriptions the subscriptions
+         * @param cancellable   if the event type is a {@link CancellableEvent}
+         * @param <T>           the event type
+         * @return if every event is received by a subscriber
+         * @since 1.0.0
+         */
+        private static <T extends Event> boolean receivesEverything(
+            final List<? extends EventSubscription<T>> subscriptions, final boolean cancellable) {
+            for (final EventSubscription<T> subscription : subscriptions) {
+                if (subscription.filter() == null
+                    && (!cancellable || subscription.acceptsCancelled())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Reserves the hidden classes missing for a chain of the given length, either all of
+         * them or none.
+         *
+         * @param length the length of the chain
+         * @return if the chain can be linked
+         * @since 1.0.0
+         */
+        private boolean reserveLinks(final int length) {
+            final int missing = length - this.links.size();
+            if (missing <= 0) {
+                return true;
+            }
+            int remaining;
+            do {
+                remaining = this.remainingLinks.get();
+                if (remaining < missing) {
+                    return false;
+                }
+            } while (!this.remainingLinks.compareAndSet(remaining, remaining - missing));
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Event> EventDispatcher<T> link(final int position,
+            final EventSubscriber<T> subscriber, final @Nullable Predicate<? super T> filter,
+            final boolean skipCancelled, final EventDispatcher<T> next,
+            final EventDispatcher<T> cancelledNext) throws ReflectiveOperationException {
+            while (this.links.size() <= position) {
+                this.links.add(defineLink());
+            }
+            try {
+                return (EventDispatcher<T>) this.links.get(position)
+                    .invokeExact((EventSubscriber<?>) subscriber, (Predicate<?>) filter,
+                        skipCancelled, (EventDispatcher<?>) next,
+                        (EventDispatcher<?>) cancelledNext);
+            } catch (final RuntimeException | Error exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new ReflectiveOperationException(throwable);
+            }
+        }
+
+        private static MethodHandle defineLink() throws ReflectiveOperationException {
+            final Lookup lookup = MethodHandles.lookup()
+                .defineHiddenClass(LINK_TEMPLATE, true);
+            return lookup.findConstructor(lookup.lookupClass(), LINK_CONSTRUCTOR.changeReturnType(
+                void.class)).asType(LINK_CONSTRUCTOR);
+        }
+
+        private static byte @Nullable [] readLinkTemplate() {
+            try (InputStream stream = DispatchLink.class.getResourceAsStream(
+                DispatchLink.class.getSimpleName() + ".class")) {
+                return stream == null ? null : stream.readAllBytes();
+            } catch (final IOException exception) {
+                return null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Event> EventDispatcher<T> loop(
+            final List<? extends EventSubscription<T>> subscriptions, final boolean cancellable,
+            final @Nullable EventSubscriber<? super T> deadLetters) {
+            final EventSubscriber<T>[] subscribers = new EventSubscriber[subscriptions.size()];
+            final Predicate<? super T>[] filters = new Predicate[subscriptions.size()];
+            final boolean[] acceptsCancelled = new boolean[subscriptions.size()];
+            final int[] cancelledNext = new int[subscriptions.size()];
+            int accepting = subscribers.length;
+            for (int i = subscribers.length - 1; i >= 0; i--) {
+                subscribers[i] = subscriptions.get(i).subscriber();
+                filters[i] = subscriptions.get(i).filter();
+                acceptsCancelled[i] = subscriptions.get(i).acceptsCancelled();
+                cancelledNext[i] = accepting;
+                if (acceptsCancelled[i]) {
+                    accepting = i;
+                }
+            }
+            return cancellable
+                ? new CancellableLoopDispatcher<>(subscribers, filters, acceptsCancelled,
+                cancelledNext, deadLetters)
+                : new LoopDispatcher<>(subscribers, filters, deadLetters);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Event> EventDispatcher<T> isolating(
+            final List<? extends EventSubscription<T>> subscriptions, final boolean cancellable,
+            final ErrorPolicy policy, final @Nullable EventSubscriber<? super T> deadLetters) {
+            final EventSubscriber<T>[] subscribers = new EventSubscriber[subscriptions.size()];
+            final Predicate<? super T>[] filters = new Predicate[subscriptions.size()];
+            final boolean[] skipCancelled = new boolean[subscriptions.size()];
+            final int[] cancelledNext = new int[subscriptions.size()];
+            int accepting = subscribers.length;
+            for (int i = subscribers.length - 1; i >= 0; i--) {
+                subscribers[i] = subscriptions.get(i).subscriber();
+                filters[i] = subscriptions.get(i).filter();
+                skipCancelled[i] = cancellable && !subscriptions.get(i).acceptsCancelled();
+                cancelledNext[i] = accepting;
+                if (!skipCancelled[i]) {
+                    accepting = i;
+                }
+            }
+            return new IsolatingLoopDispatcher<>(subscribers, filters, skipCancelled,
+                cancelledNext, policy, deadLetters);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Event> EventDispatcher<T> indexed(
+            final List<? extends EventSubscription<T>> subscriptions, final boolean cancellable,
+            final ErrorPolicy policy, final @Nullable EventSubscriber<? super T> deadLetters) {
+            final List<IndexedSubscriber<T>> unindexed = new ArrayList<>();
+            final Map<EventProperty<?, ?>, Map<Object, List<IndexedSubscriber<T>>>> indexes =
+                new IdentityHashMap<>();
+            for (int i = 0; i < subscriptions.size(); i++) {
+                final EventSubscription<T> subscription = subscriptions.get(i);
+                final IndexedSubscriber<T> subscriber = new IndexedSubscriber<>(i,
+                    subscription.subscriber(), subscription.filter(),
+                    cancellable && !subscription.acceptsCancelled());
+                final PropertyMatch<? super T> match = subscription.match();
+                if (match == null) {
+                    unindexed.add(subscriber);
+                } else {
+                    indexes.computeIfAbsent(match.property(), property -> new HashMap<>())
+                        .computeIfAbsent(match.value(), value -> new ArrayList<>())
+                        .add(subscriber);
+                }
+            }
+            final EventProperty<? super T, ?>[] properties = new EventProperty[indexes.size()];
+            final Map<Object, IndexedSubscriber<T>[]>[] values = new Map[indexes.size()];
+            int index = 0;
+            for (final Map.Entry<EventProperty<?, ?>, Map<Object, List<IndexedSubscriber<T>>>> entry
+                : indexes.entrySet()) {
+                properties[index] = (EventProperty<? super T, ?>) entry.getKey();
+                final Map<Object, IndexedSubscriber<T>[]> byValue = new HashMap<>();
+                entry.getValue().forEach((value, matching) -> byValue.put(value,
+                    matching.toArray(IndexedDispatcher.none())));
+                values[index++] = byValue;
+            }
+            return new IndexedDispatcher<>(unindexed.toArray(IndexedDispatcher.none()),
+                properties, values, policy, deadLetters);
+        }
+
+    }
+
+    @NullMarked
+    private static final class EmptyDispatcher<T extends Event> extends EventDispatcher<T> {
+
+        @Override
+        void dispatch(final T event) {
+        }
+
+    }
+
+    @NullMarked
+    private static final class DeadLetterDispatcher<T extends Event> extends EventDispatcher<T> {
+
+        private final EventSubscriber<? super T> deadLetters;
+
+        DeadLetterDispatcher(final EventSubscriber<? super T> deadLetters) {
+            this.deadLetters = deadLetters;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        void dispatch(final T event) {
+            ((EventSubscriber<T>) this.deadLetters).handle(event);
+        }
+
+    }
+
+    @NullMarked
+    private static final class LoopDispatcher<T extends Event> extends EventDispatcher<T> {
+
+        private final EventSubscriber<T>[] subscribers;
+        private final @Nullable Predicate<? super T>[] filters;
+        private final @Nullable EventSubscriber<? super T> deadLetters;
+
+        LoopDispatcher(final EventSubscriber<T>[] subscribers,
+            final @Nullable Predicate<? super T>[] filters,
+            final @Nullable EventSubscriber<? super T> deadLetters) {
+            this.subscribers = subscribers;
+            this.filters = filters;
+            this.deadLetters = deadLetters;
+        }
+
+        @Override
+        void dispatch(final T event) {
+            boolean received = false;
+            for (int i = 0; i < this.subscribers.length; i++) {
+                final Predicate<? super T> filter = this.filters[i];
+                if (filter == null || filter.test(event)) {
+                    received = true;
+                    this.subscribers[i].handle(event);
+                }
+            }
+            if (!received) {
+                unreceived(this.deadLetters, event);
+            }
+        }
+
+    }
+
+    @NullMarked
+    private static final class CancellableLoopDispatcher<T extends Event> extends
+        EventDispatcher<T> {
+
+        private final EventSubscriber<T>[] subscribers;
+        private final @Nullable Predicate<? super T>[] filters;
+        private final boolean[] acceptsCancelled;
+        // the index of the next subscriber accepting cancelled events, to skip to
+        private final int[] cancelledNext;
+        private final @Nullable EventSubscriber<? super T> deadLetters;
+
+        CancellableLoopDispatcher(final EventSubscriber<T>[] subscribers,
+            final @Nullable Predicate<? super T>[] filters, final boolean[] acceptsCancelled,
+            final int[] cancelledNext, final @Nullable EventSubscriber<? super T> deadLetters) {
+            this.subscribers = subscribers;
+            this.filters = filters;
+            this.acceptsCancelled = acceptsCancelled;
+            this.cancelledNext = cancelledNext;
+            this.deadLetters = deadLetters;
+        }
+
+        @Override
+        void dispatch(final T event) {
+            final CancellableEvent cancellableEvent = (CancellableEvent) event;
+            boolean received = false;
+            int i = 0;
+            while (i < this.subscribers.length) {
+                if (!this.acceptsCancelled[i] && cancellableEvent.cancelled()) {
+                    i = this.cancelledNext[i];
+                    continue;
+                }
+                final Predicate<? super T> filter = this.filters[i];
+                if (filter == null || filter.test(event)) {
+                    received = true;
+                    this.subscribers[i].handle(event);
+                }
+                i++;
+            }
+            if (!received) {
+                unreceived(this.deadLetters, event);
+            }
+        }
+
+    }
+
+    /**
+     * A loop dispatcher isolating subscribers from each other's exceptions.
+     *
+     * <p>The iteration is wrapped in a single exception handler, which hands the exception to
+     * the error policy and re-enters the iteration right after the failed subscriber.</p>
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    private static final class IsolatingLoopDispatcher<T extends Event> extends
+        EventDispatcher<T> {
+
+        private final EventSubscriber<T>[] subscribers;
+        private final @Nullable Predicate<? super T>[] filters;
+        private final boolean[] skipCancelled;
+        // the index of the next subscriber accepting cancelled events, to skip to
+        private final int[] cancelledNext;
+        private final ErrorPolicy policy;
+        private final @Nullable EventSubscriber<? super T> deadLetters;
+
+        IsolatingLoopDispatcher(final EventSubscriber<T>[] subscribers,
+            final @Nullable Predicate<? super T>[] filters, final boolean[] skipCancelled,
+            final int[] cancelledNext, final ErrorPolicy policy,
+            final @Nullable EventSubscriber<? super T> deadLetters) {
+            this.subscribers = subscribers;
+            this.filters = filters;
+            this.skipCancelled = skipCancelled;
+            this.cancelledNext = cancelledNext;
+            this.policy = policy;
+            this.deadLetters = deadLetters;
+        }
+
+        @Override
+        void dispatch(final T event) {
+            boolean received = false;
+            List<Exception> failures = null;
+            int i = 0;
+            while (i < this.subscribers.length) {
+                try {
+                    while (i < this.subscribers.length) {
+                        if (this.skipCancelled[i] && ((CancellableEvent) event).cancelled()) {
+                            i = this.cancelledNext[i];
+                            continue;
+                        }
+                        final Predicate<? super T> filter = this.filters[i];
+                        if (filter == null || filter.test(event)) {
+                            received = true;
+                            this.subscribers[i].handle(event);
+                        }
+                        i++;
+                    }
+                } catch (final Exception exception) {
+                    failures = failed(this.policy, event, this.subscribers[i], exception, failures);
+                    i++;
+                }
+            }
+            if (!received) {
+                unreceived(this.deadLetters, event);
+            }
+            if (failures != null) {
+                throw new EventDispatchException(event, failures);
+            }
+        }
+
+    }
+
+    /**
+     * A dispatcher visiting only the subscriptions whose property match equals the event, and
+     * every subscription without one.
+     *
+     * <p>Each indexed property is read once per event to look up the matching subscriptions,
+     * which are merged back into priority order with the unindexed ones. Events no subscriber
+     * receives, because nothing matches them, their filters reject them or they are cancelled
+     * before reaching anyone, are handed to the dead-letter subscriber, if any.</p>
+     *
+     * <p>With up to {@link #MAX_UNALLOCATED_PROPERTIES} indexed properties, the merge keeps its
+     * cursors in locals and publishing does not allocate. Types indexed by more properties merge
+     * through cursor arrays allocated per event.</p>
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    private static final class IndexedDispatcher<T extends Event> extends EventDispatcher<T> {
+
+        static final int MAX_UNALLOCATED_PROPERTIES = 2;
+
+        private static final IndexedSubscriber<?>[] NONE = new IndexedSubscriber<?>[0];
+
+        private final IndexedSubscriber<T>[] unindexed;
+        private final EventProperty<? super T, ?>[] properties;
+        private final Map<Object, IndexedSubscriber<T>[]>[] values;
+        private final ErrorPolicy policy;
+        private final @Nullable EventSubscriber<? super T> deadLetters;
+
+        IndexedDispatcher(final IndexedSubscriber<T>[] unindexed,
+            final EventProperty<? super T, ?>[] properties,
+            final Map<Object, IndexedSubscriber<T>[]>[] values, final ErrorPolicy policy,
+            final @Nullable EventSubscriber<? super T> deadLetters) {
+            this.unindexed = unindexed;
+            this.properties = properties;
+            this.values = values;
+            this.policy = policy;
+            this.deadLetters = deadLetters;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T extends Event> IndexedSubscriber<T>[] none() {
+            return (IndexedSubscriber<T>[]) NONE;
+        }
+
+        @Override
+        void dispatch(final T event) {
+            if (this.properties.length > MAX_UNALLOCATED_PROPERTIES) {
+                this.dispatchMerged(event);
+                return;
+            }
+            final IndexedSubscriber<T>[] first = this.matching(0, event);
+            final IndexedSubscriber<T>[] second = this.matching(1, event);
+            int unindexedCursor = 0;
+            int firstCursor = 0;
+            int secondCursor = 0;
+            boolean received = false;
+            List<Exception> failures = null;
+            IndexedSubscriber<T> next = null;
+            while (true) {
+                try {
+                    while (true) {
+                        final int unindexedPosition = position(this.unindexed, unindexedCursor);
+                        final int firstPosition = position(first, firstCursor);
+                        final int secondPosition = position(second, secondCursor);
+                        if (unindexedPosition < firstPosition
+                            && unindexedPosition < secondPosition) {
+                            next = this.unindexed[unindexedCursor++];
+                        } else if (firstPosition < secondPosition) {
+                            next = first[firstCursor++];
+                        } else if (secondPosition != Integer.MAX_VALUE) {
+                            next = second[secondCursor++];
+                        } else {
+                            break;
+                        }
+                        if (accepts(next, event)) {
+                            received = true;
+                            next.subscriber.handle(event);
+                        }
+                    }
+                    break;
+                } catch (final Exception exception) {
+                    // the cursor already moved past the failed subscriber
+                    if (this.policy == ErrorPolicy.PROPAGATE || next == null) {
+                        throw exception;
+                    }
+                    failures = failed(this.policy, event, next.subscriber, exception, failures);
+                }
+            }
+            this.completed(event, received, failures);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void dispatchMerged(final T event) {
+            final IndexedSubscriber<T>[][] runs = new IndexedSubscriber[this.properties.length + 1][];
+            runs[0] = this.unindexed;
+            for (int i = 0; i < this.properties.length; i++) {
+                runs[i + 1] = this.matching(i, event);
+            }
+            final int[] cursors = new int[runs.length];
+            boolean received = false;
+            List<Exception> failures = null;
+            IndexedSubscriber<T> next = null;
+            while (true) {
+                try {
+                    while ((next = next(runs, cursors)) != null) {
+                        if (accepts(next, event)) {
+                            received = true;
+                            next.subscriber.handle(event);
+                        }
+                    }
+                    break;
+                } catch (final Exception exception) {
+                    // the cursor already moved past the failed subscriber
+                    if (this.policy == ErrorPolicy.PROPAGATE || next == null) {
+                        throw exception;
+                    }
+                    failures = failed(this.policy, event, next.subscriber, exception, failures);
+                }
+            }
+            this.completed(event, received, failures);
+        }
+
+        private IndexedSubscriber<T>[] matching(final int property, final T event) {
+            return property < this.properties.length
+                ? this.values[property].getOrDefault(this.properties[property].get(event), none())
+                : none();
+        }
+
+        private void completed(final T event, final boolean received,
+            final @Nullable List<Exception> failures) {
+            if (!received) {
+                unreceived(this.deadLetters, event);
+            }
+            if (failures != null) {
+                throw new EventDispatchException(event, failures);
+            }
+        }
+
+        private static <T extends Event> boolean accepts(final IndexedSubscriber<T> subscriber,
+            final T event) {
+            if (subscriber.skipCancelled && ((CancellableEvent) event).cancelled()) {
+                return false;
+            }
+            return subscriber.filter == null || subscriber.filter.test(event);
+        }
+
+        private static int position(final IndexedSubscriber<?>[] run, final int cursor) {
+            return cursor < run.length ? run[cursor].position : Integer.MAX_VALUE;
+        }
+
+        private static <T extends Event> @Nullable IndexedSubscriber<T> next(
+            final IndexedSubscriber<T>[][] runs, final int[] cursors) {
+            IndexedSubscriber<T> next = null;
+            int run = -1;
+            for (int i = 0; i < runs.length; i++) {
+                if (cursors[i] < runs[i].length) {
+                    final IndexedSubscriber<T> head = runs[i][cursors[i]];
+                    if (next == null || head.position < next.position) {
+                        next = head;
+                        run = i;
+                    }
+                }
+            }
+            if (next != null) {
+                cursors[run]++;
+            }
+            return next;
+        }
+
+    }
+
+    /**
+     * A subscriber of an {@link IndexedDispatcher}.
+     *
+     * @param position      the position of the subscription in priority order
+     * @param subscriber    the subscriber
+     * @param filter        the filter, or null
+     * @param skipCancelled if cancelled events are skipped
+     * @param <T>           the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    private record IndexedSubscriber<T extends Event>(int position, EventSubscriber<T> subscriber,
+                                                      @Nullable Predicate<? super T> filter,
+                                                      boolean skipCancelled) {
+
+    }
+
+}
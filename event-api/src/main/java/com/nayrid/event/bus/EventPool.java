@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.config.PoolingConfig;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A pool of reusable instances of a single event class.
+ *
+ * <p>A {@link #local(PoolingConfig) local} pool keeps idle events in a bounded stack per thread,
+ * so acquiring and releasing never contend, but an event released on another thread than the one
+ * that acquired it lands in that thread's stack instead. Buses dispatching on other threads than
+ * the publishing one, like the consumers of a {@link RingBufferEventBus} or the owners of the
+ * shards of a {@link ShardedEventBus}, use a {@link #shared(PoolingConfig) shared} pool instead:
+ * a single bounded ring buffer every thread acquires from and releases to, at the cost of a
+ * compare-and-set on either side. A shared pool can also defer releasing dispatched events, for
+ * buses like the {@link AsyncEventBus} whose subscribers may still use an event once its
+ * dispatch returned.</p>
+ *
+ * <p>Like its {@link AbstractEventBus.TypeDispatch}, a pool must never reference the bus.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+final class EventPool<T extends Event> {
+
+    private final PoolingConfig<T> config;
+    private final @Nullable ThreadLocal<Stack> stacks;
+    private final @Nullable EventRingBuffer shared;
+    // runs the release of a dispatched event once nothing uses it anymore, null to run it at once
+    private final @Nullable Consumer<Runnable> deferral;
+
+    private EventPool(final PoolingConfig<T> config, final @Nullable ThreadLocal<Stack> stacks,
+        final @Nullable EventRingBuffer shared, final @Nullable Consumer<Runnable> deferral) {
+        this.config = config;
+        this.stacks = stacks;
+        this.shared = shared;
+        this.deferral = deferral;
+    }
+
+    /**
+     * Creates a pool keeping idle events per thread, for events released on the thread that
+     * acquired them.
+     *
+     * @param config the pooling config
+     * @param <T>    the event type
+     * @return the pool
+     * @since 1.0.0
+     */
+    static <T extends Event> EventPool<T> local(final PoolingConfig<T> config) {
+        return new EventPool<>(config, ThreadLocal.withInitial(() -> new Stack(config.capacity())),
+            null, null);
+    }
+
+    /**
+     * Creates a pool sharing its idle events between every thread, for events released on
+     * another thread than the one that acquired them. The capacity is rounded up to a power of
+     * two.
+     *
+     * @param config the pooling config
+     * @param <T>    the event type
+     * @return the pool
+     * @since 1.0.0
+     */
+    static <T extends Event> EventPool<T> shared(final PoolingConfig<T> config) {
+        return shared(config, null);
+    }
+
+    /**
+     * Creates a pool sharing its idle events between every thread, releasing dispatched events
+     * only once the given deferral runs their release. The deferral is called on the thread
+     * dispatching the event, once its dispatch returned. The capacity is rounded up to a power of
+     * two.
+     *
+     * @param config   the pooling config
+     * @param deferral runs the release of a dispatched event once nothing uses it anymore, or
+     *                 null to release it at once
+     * @param <T>      the event type
+     * @return the pool
+     * @since 1.0.0
+     */
+    static <T extends Event> EventPool<T> shared(final PoolingConfig<T> config,
+        final @Nullable Consumer<Runnable> deferral) {
+        final int capacity = config.capacity() == 1
+            ? 1
+            : Integer.highestOneBit(config.capacity() - 1) << 1;
+        return new EventPool<>(config, null, new EventRingBuffer(capacity), deferral);
+    }
+
+    /**
+     * Takes an idle event from the pool, or creates one if it is empty. The cancelled state of a
+     * reused {@link CancellableEvent} is only reset here, so that it can still be read once the
+     * event was published and released.
+     *
+     * @return the event
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    T acquire() {
+        final T event;
+        if (this.shared != null) {
+            event = (T) this.shared.poll();
+            if (event == null) {
+                return this.config.factory().get();
+            }
+        } else {
+            final Stack stack = this.stacks.get();
+            if (stack.size == 0) {
+                return this.config.factory().get();
+            }
+            event = (T) stack.events[--stack.size];
+            stack.events[stack.size] = null;
+        }
+        if (event instanceof CancellableEvent cancellable) {
+            cancellable.cancelled(false);
+        }
+        return event;
+    }
+
+    /**
+     * Resets an event and returns it to the pool, unless it is full.
+     *
+     * @param event the event
+     * @since 1.0.0
+     */
+    void release(final T event) {
+        this.config.reset().accept(event);
+        if (this.shared != null) {
+            this.shared.offer(event);
+            return;
+        }
+        final Stack stack = this.stacks.get();
+        if (stack.size < stack.events.length) {
+            stack.events[stack.size++] = event;
+        }
+    }
+
+    private void dispatched(final T event) {
+        final Consumer<Runnable> deferral = this.deferral;
+        if (deferral == null) {
+            this.release(event);
+        } else {
+            deferral.accept(() -> this.release(event));
+        }
+    }
+
+    /**
+     * Wraps a dispatcher to release every event once dispatched.
+     *
+     * @param delegate the dispatcher
+     * @return the releasing dispatcher
+     * @since 1.0.0
+     */
+    EventDispatcher<T> releasing(final EventDispatcher<T> delegate) {
+        return new ReleasingDispatcher<>(this, delegate);
+    }
+
+    @NullMarked
+    private static final class Stack {
+
+        private final Object[] events;
+        private int size;
+
+        Stack(final int capacity) {
+            this.events = new Object[capacity];
+        }
+
+    }
+
+    /**
+     * A dispatcher releasing every event into its pool once dispatched.
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    static final class ReleasingDispatcher<T extends Event> extends EventDispatcher<T> {
+
+        private final EventPool<T> pool;
+        private final EventDispatcher<T> delegate;
+
+        ReleasingDispatcher(final EventPool<T> pool, final EventDispatcher<T> delegate) {
+            this.pool = pool;
+            this.delegate = delegate;
+        }
+
+        @Override
+        void dispatch(final T event) {
+            try {
+                this.delegate.dispatch(event);
+            } finally {
+                this.pool.dispatched(event);
+            }
+        }
+
+        /**
+         * Dispatches a {@link CancellableEvent}, reading whether it was cancelled before it is
+         * released, since the reset hook or the next thread acquiring it may clear its state.
+         *
+         * @param event the event
+         * @return {@code true} if the event was not cancelled
+         * @since 1.0.0
+         */
+        boolean dispatchCancellable(final T event) {
+            try {
+                this.delegate.dispatch(event);
+                return !((CancellableEvent) event).cancelled();
+            } finally {
+                this.pool.dispatched(event);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.EventBus.EventRegistration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The registrations of a bus, stored densely by id.
+ *
+ * <p>Every registration is given the next free id when it is created. Registrations are never
+ * removed, so ids are never reused and looking a registration up by id is a single array load.
+ * Keys and classes are resolved through a map once, to find the registration, after which the
+ * dispatches of a bus resolve the registrations of their event's supertypes by id.</p>
+ *
+ * <p>Registries must never reference their bus, as they are reachable from the bus'
+ * class-indexed dispatches.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+final class EventRegistry {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ConcurrentHashMap<Key, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, EventRegistration<?>> registrationsByClass = new ConcurrentHashMap<>();
+    // replaced when grown, and written again after every store to publish the new element
+    private volatile EventRegistration<?>[] registrations = new EventRegistration<?>[INITIAL_CAPACITY];
+    private volatile int size;
+
+    /**
+     * Gets a registration by id.
+     *
+     * @param id the registration id
+     * @return the registration, or null if none exists
+     * @since 1.0.0
+     */
+    @Nullable EventRegistration<?> get(final int id) {
+        final EventRegistration<?>[] registrations = this.registrations;
+        return id >= 0 && id < registrations.length ? registrations[id] : null;
+    }
+
+    /**
+     * Gets a registration by key.
+     *
+     * @param key the event key
+     * @return the registration, or null if none exists
+     * @since 1.0.0
+     */
+    @Nullable EventRegistration<?> get(final Key key) {
+        final Integer id = this.idsByKey.get(key);
+        return id != null ? this.registrations[id] : null;
+    }
+
+    /**
+     * Gets the registration created for an event class.
+     *
+     * @param eventType the event class
+     * @return the registration, or null if none was created for the class
+     * @since 1.0.0
+     */
+    @Nullable EventRegistration<?> get(final Class<?> eventType) {
+        return this.registrationsByClass.get(eventType);
+    }
+
+    /**
+     * Creates a registration for the given key, unless one already exists.
+     *
+     * @param key       the event key
+     * @param eventType the event class
+     * @param <T>       the event type
+     * @return the new registration, or null if the key is already registered
+     * @since 1.0.0
+     */
+    synchronized <T extends Event> @Nullable EventRegistration<T> create(final Key key,
+        final Class<T> eventType) {
+        if (this.idsByKey.containsKey(key)) {
+            return null;
+        }
+        final int id = this.size;
+        EventRegistration<?>[] registrations = this.registrations;
+        if (id == registrations.length) {
+            registrations = Arrays.copyOf(registrations, id * 2);
+        }
+        final EventRegistration<T> registration = EventRegistration.create(id, key, eventType);
+        registrations[id] = registration;
+        this.registrations = registrations;
+        this.size = id + 1;
+        // published after the array, so that readers of the maps always find the element
+        this.registrationsByClass.putIfAbsent(eventType, registration);
+        this.idsByKey.put(key, id);
+        return registration;
+    }
+
+    /**
+     * Gets the keys of every registration.
+     *
+     * @return an unmodifiable view of the keys
+     * @since 1.0.0
+     */
+    Set<Key> keySet() {
+        return Collections.unmodifiableSet(this.idsByKey.keySet());
+    }
+
+    /**
+     * Gets a snapshot of every registration, in id order.
+     *
+     * @return the registrations
+     * @since 1.0.0
+     */
+    List<EventRegistration<?>> registrations() {
+        final int size = this.size;
+        return List.of(Arrays.copyOf(this.registrations, size));
+    }
+
+}
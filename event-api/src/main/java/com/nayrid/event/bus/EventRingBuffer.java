@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer ring buffer of events.
+ *
+ * <p>Every slot carries a sequence number that tells producers and consumers whose turn it is,
+ * so claiming a slot is a single compare-and-set and neither side allocates.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+final class EventRingBuffer {
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int mask;
+    private final @Nullable Event[] events;
+    private final long[] sequences;
+    // padded apart, since producers and consumers each update their index on every operation
+    private final Sequence producerIndex = new Sequence();
+    private final Sequence consumerIndex = new Sequence();
+
+    EventRingBuffer(final int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.events = new Event[capacity];
+        this.sequences = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            this.sequences[i] = i;
+        }
+    }
+
+    /**
+     * Adds an event if a slot is free.
+     *
+     * @param event the event
+     * @return {@code true} if the event was added, {@code false} if the buffer is full
+     * @since 1.0.0
+     */
+    boolean offer(final Event event) {
+        long index = this.producerIndex.get();
+        while (true) {
+            final int slot = (int) index & this.mask;
+            final long difference = (long) SEQUENCES.getAcquire(this.sequences, slot) - index;
+            if (difference == 0) {
+                if (this.producerIndex.weakCompareAndSet(index, index + 1)) {
+                    this.events[slot] = event;
+                    SEQUENCES.setRelease(this.sequences, slot, index + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            index = this.producerIndex.get();
+        }
+    }
+
+    /**
+     * Removes the oldest event.
+     *
+     * @return the event, or {@code null} if the buffer is empty
+     * @since 1.0.0
+     */
+    @Nullable Event poll() {
+        long index = this.consumerIndex.get();
+        while (true) {
+            final int slot = (int) index & this.mask;
+            final long difference = (long) SEQUENCES.getAcquire(this.sequences, slot) - (index + 1);
+            if (difference == 0) {
+                if (this.consumerIndex.weakCompareAndSet(index, index + 1)) {
+                    final Event event = this.events[slot];
+                    this.events[slot] = null;
+                    SEQUENCES.setRelease(this.sequences, slot, index + this.mask + 1);
+                    return event;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+            index = this.consumerIndex.get();
+        }
+    }
+
+    /**
+     * Gets an estimate of the number of queued events.
+     *
+     * @return the approximate size
+     * @since 1.0.0
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(this.producerIndex.get() - this.consumerIndex.get(),
+            this.mask + 1L));
+    }
+
+    /*
+     * A counter on cache lines of its own. Superclass fields are laid out before subclass fields,
+     * so the hierarchy keeps 128 bytes of padding on both sides of the value.
+     */
+    @NullMarked
+    @SuppressWarnings("unused")
+    abstract static class SequencePadding {
+
+        long p00;
+        long p01;
+        long p02;
+        long p03;
+        long p04;
+        long p05;
+        long p06;
+        long p07;
+        long p08;
+        long p09;
+        long p10;
+        long p11;
+        long p12;
+        long p13;
+        long p14;
+        long p15;
+
+    }
+
+    @NullMarked
+    abstract static class SequenceValue extends SequencePadding {
+
+        volatile long value;
+
+    }
+
+    @NullMarked
+    @SuppressWarnings("unused")
+    static final class Sequence extends SequenceValue {
+
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup()
+                    .findVarHandle(SequenceValue.class, "value", long.class);
+            } catch (final ReflectiveOperationException exception) {
+                throw new ExceptionInInitializerError(exception);
+            }
+        }
+
+        long q00;
+        long q01;
+        long q02;
+        long q03;
+        long q04;
+        long q05;
+        long q06;
+        long q07;
+        long q08;
+        long q09;
+        long q10;
+        long q11;
+        long q12;
+        long q13;
+        long q14;
+        long q15;
+
+        long get() {
+            return this.value;
+        }
+
+        boolean weakCompareAndSet(final long expected, final long value) {
+            return VALUE.weakCompareAndSet(this, expected, value);
+        }
+
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.AbstractEventBus.TypeDispatch;
+import com.nayrid.event.bus.subscription.BatchEventSubscriber;
+import com.nayrid.event.bus.subscription.EventStage;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Java Flight Recorder support, emitting a {@link PublishRecord} per publish and a
+ * {@link HandleRecord} per subscriber call while a recording is running.
+ *
+ * <p>Dispatchers are only linked with recording wrappers while a recording is running: every
+ * dispatch is invalidated whenever a recording starts or stops, so buses pay nothing for
+ * recording support otherwise. Within a recording, emission is further gated by the recording's
+ * enabled and threshold settings for each event.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+final class FlightRecording {
+
+    // weak, so that tracking a dispatch never keeps it, nor its event class, reachable
+    private static final Set<TypeDispatch<?>> DISPATCHES = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+    private static volatile boolean recording;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(final FlightRecorder recorder) {
+                    update(recorder);
+                }
+
+                @Override
+                public void recordingStateChanged(final Recording changed) {
+                    update(FlightRecorder.getFlightRecorder());
+                }
+            });
+        } catch (final LinkageError | SecurityException ignored) {
+            // no flight recorder in this runtime, nothing will ever be recorded
+        }
+    }
+
+    private FlightRecording() {
+    }
+
+    private static void update(final FlightRecorder recorder) {
+        boolean running = false;
+        for (final Recording recording : recorder.getRecordings()) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                running = true;
+                break;
+            }
+        }
+        if (running == recording) {
+            return;
+        }
+        recording = running;
+        final List<TypeDispatch<?>> dispatches;
+        synchronized (DISPATCHES) {
+            dispatches = new ArrayList<>(DISPATCHES);
+        }
+        for (final TypeDispatch<?> dispatch : dispatches) {
+            dispatch.invalidate();
+        }
+    }
+
+    /**
+     * Tracks a dispatch, to be invalidated whenever a recording starts or stops.
+     *
+     * @param dispatch the dispatch
+     * @since 1.0.0
+     */
+    static void track(final TypeDispatch<?> dispatch) {
+        DISPATCHES.add(dispatch);
+    }
+
+    /**
+     * Gets if a recording is running, in which case dispatchers should be built with recording
+     * wrappers.
+     *
+     * @return if a recording is running
+     * @since 1.0.0
+     */
+    static boolean recording() {
+        return recording;
+    }
+
+    private static boolean cancelled(final Event event) {
+        return event instanceof CancellableEvent cancellable && cancellable.cancelled();
+    }
+
+    /**
+     * A dispatcher emitting a {@link PublishRecord} around its delegate.
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    static final class RecordingDispatcher<T extends Event> extends EventDispatcher<T> {
+
+        private final EventDispatcher<T> delegate;
+        private final String key;
+
+        RecordingDispatcher(final EventDispatcher<T> delegate, final String key) {
+            this.delegate = delegate;
+            this.key = key;
+        }
+
+        @Override
+        void dispatch(final T event) {
+            final PublishRecord record = new PublishRecord();
+            record.begin();
+            try {
+                this.delegate.dispatch(event);
+            } finally {
+                if (record.shouldCommit()) {
+                    record.key = this.key;
+                    record.eventType = event.getClass();
+                    record.cancelled = cancelled(event);
+                    record.commit();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A subscriber emitting a {@link HandleRecord} around its delegate. Batches handed over at
+     * once are recorded as a single call.
+     *
+     * @param delegate   the subscriber
+     * @param key        the published event's key
+     * @param subscriber the subscriber's class, before any other wrapping
+     * @param priority   the subscription's priority
+     * @param stage      the subscription's stage
+     * @param <T>        the event type
+     * @since 1.0.0
+     */
+    @NullMarked
+    record RecordingSubscriber<T extends Event>(EventSubscriber<T> delegate, String key,
+                                                Class<?> subscriber, int priority,
+                                                EventStage stage) implements
+        BatchEventSubscriber<T> {
+
+        @Override
+        public void handle(final T event) {
+            final HandleRecord record = new HandleRecord();
+            record.begin();
+            try {
+                this.delegate.handle(event);
+            } finally {
+                if (record.shouldCommit()) {
+                    this.commit(record, 1, cancelled(event));
+                }
+            }
+        }
+
+        @Override
+        public void handleAll(final List<T> events) {
+            if (!(this.delegate instanceof BatchEventSubscriber<T> batch)) {
+                for (final T event : events) {
+                    this.handle(event);
+                }
+                return;
+            }
+            final HandleRecord record = new HandleRecord();
+            record.begin();
+            try {
+                batch.handleAll(events);
+            } finally {
+                if (record.shouldCommit()) {
+                    this.commit(record, events.size(),
+                        !events.isEmpty() && cancelled(events.getLast()));
+                }
+            }
+        }
+
+        private void commit(final HandleRecord record, final int events,
+            final boolean cancelled) {
+            record.key = this.key;
+            record.subscriber = this.subscriber;
+            record.priority = this.priority;
+            record.stage = this.stage.name();
+            record.events = events;
+            record.cancelled = cancelled;
+            record.commit();
+        }
+
+    }
+
+    /**
+     * Emitted for every event published while recording.
+     *
+     * @since 1.0.0
+     */
+    @Name("com.nayrid.event.Publish")
+    @Label("Event Publish")
+    @Category({"Nayrid", "Event Bus"})
+    @Description("An event dispatched to the subscribers of its type")
+    @StackTrace(false)
+    @SuppressWarnings("NotNullFieldNotInitialized")
+    static final class PublishRecord extends jdk.jfr.Event {
+
+        @Label("Event Key")
+        String key;
+
+        @Label("Event Type")
+        Class<?> eventType;
+
+        @Label("Cancelled")
+        @Description("Whether the event was cancelled once dispatched")
+        boolean cancelled;
+
+    }
+
+    /**
+     * Emitted for every subscriber call while recording.
+     *
+     * @since 1.0.0
+     */
+    @Name("com.nayrid.event.Handle")
+    @Label("Event Handle")
+    @Category({"Nayrid", "Event Bus"})
+    @Description("A subscriber handling a published event")
+    @StackTrace(false)
+    @SuppressWarnings("NotNullFieldNotInitialized")
+    static final class HandleRecord extends jdk.jfr.Event {
+
+        @Label("Event Key")
+        String key;
+
+        @Label("Subscriber")
+        Class<?> subscriber;
+
+        @Label("Priority")
+        int priority;
+
+        @Label("Stage")
+        String stage;
+
+        @Label("Events")
+        @Description("The number of events handled, more than one for batches")
+        int events;
+
+        @Label("Cancelled")
+        @Description("Whether the event was cancelled once handled")
+        boolean cancelled;
+
+    }
+
+}
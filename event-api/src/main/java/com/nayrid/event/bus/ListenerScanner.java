@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.annotation.AnnotationIndex;
+import com.nayrid.event.annotation.AnnotationIndex.IndexedListener;
+import com.nayrid.event.annotation.Subscribe;
+import com.nayrid.event.bus.subscription.EventStage;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Scans listener classes for {@link Subscribe} methods.
+ *
+ * <p>Every method gets an invoker generated through {@link LambdaMetafactory}, so that handling
+ * an event is a plain interface call into the listener instead of a reflective one. Invokers are
+ * generated once per listener class and cached; registering another instance only binds
+ * them.</p>
+ *
+ * <p>Listener classes found in the compile-time {@link AnnotationIndex} are resolved from it
+ * instead of being scanned.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+final class ListenerScanner {
+
+    private static final MethodType SUBSCRIBER_TYPE = MethodType.methodType(void.class,
+        Event.class);
+    private static final ClassValue<List<ListenerMethod>> METHODS = new ClassValue<>() {
+        @Override
+        protected List<ListenerMethod> computeValue(final Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private ListenerScanner() {
+    }
+
+    /**
+     * Gets the listener methods of a class.
+     *
+     * @param type the listener class
+     * @return the listener methods
+     * @throws IllegalArgumentException if a {@link Subscribe} method is invalid
+     * @since 1.0.0
+     */
+    static List<ListenerMethod> methods(final Class<?> type) {
+        return METHODS.get(type);
+    }
+
+    private static List<ListenerMethod> scan(final Class<?> type) {
+        final List<IndexedListener> indexed = AnnotationIndex.of(type).listeners(type);
+        if (indexed != null) {
+            final List<ListenerMethod> methods = fromIndex(type, indexed);
+            if (methods != null) {
+                return methods;
+            }
+        }
+        final List<ListenerMethod> methods = new ArrayList<>();
+        final Set<String> seen = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class;
+            current = current.getSuperclass()) {
+            for (final Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()
+                    || !seen.add(method.getName() + MethodType.methodType(void.class,
+                    method.getParameterTypes()).toMethodDescriptorString())) {
+                    continue;
+                }
+                final Subscribe subscribe = method.getAnnotation(Subscribe.class);
+                if (subscribe != null) {
+                    methods.add(listenerMethod(method, subscribe));
+                }
+            }
+        }
+        return List.copyOf(methods);
+    }
+
+    // a stale index, out of sync with the loaded classes, falls back to scanning
+    private static @Nullable List<ListenerMethod> fromIndex(final Class<?> type,
+        final List<IndexedListener> indexed) {
+        final List<ListenerMethod> methods = new ArrayList<>(indexed.size());
+        for (final IndexedListener listener : indexed) {
+            Class<?> owner = type;
+            while (owner != null && !owner.getName().equals(listener.owner())) {
+                owner = owner.getSuperclass();
+            }
+            if (owner == null) {
+                return null;
+            }
+            try {
+                final MethodType methodType = MethodType.fromMethodDescriptorString(
+                    listener.descriptor(), owner.getClassLoader());
+                if (methodType.parameterCount() != 1
+                    || !Event.class.isAssignableFrom(methodType.parameterType(0))) {
+                    return null;
+                }
+                final Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+                methods.add(listenerMethod(owner, lookup,
+                    lookup.findVirtual(owner, listener.name(), methodType),
+                    methodType.parameterType(0).asSubclass(Event.class), listener.priority(),
+                    listener.acceptsCancelled(), listener.stage()));
+            } catch (final ReflectiveOperationException | IllegalArgumentException
+                           | TypeNotPresentException exception) {
+                return null;
+            }
+        }
+        return List.copyOf(methods);
+    }
+
+    private static ListenerMethod listenerMethod(final Method method, final Subscribe subscribe) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1
+            || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            throw new IllegalArgumentException("@Subscribe method must be an instance method "
+                + "taking a single event: " + method);
+        }
+        final Class<? extends Event> eventType = method.getParameterTypes()[0]
+            .asSubclass(Event.class);
+        final Class<?> owner = method.getDeclaringClass();
+        final MethodHandle target;
+        final Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (final IllegalAccessException exception) {
+            throw new IllegalArgumentException("@Subscribe method is not accessible, its package "
+                + "must be opened to this module: " + method, exception);
+        }
+        return listenerMethod(owner, lookup, target, eventType, subscribe.priority(),
+            subscribe.acceptsCancelled(), subscribe.stage());
+    }
+
+    private static ListenerMethod listenerMethod(final Class<?> owner, final Lookup lookup,
+        final MethodHandle target, final Class<? extends Event> eventType, final int priority,
+        final boolean acceptsCancelled, final EventStage stage) {
+        MethodHandle factory;
+        try {
+            factory = LambdaMetafactory.metafactory(lookup, "handle",
+                MethodType.methodType(EventSubscriber.class, owner), SUBSCRIBER_TYPE, target,
+                MethodType.methodType(void.class, eventType)).getTarget();
+        } catch (final LambdaConversionException | IllegalArgumentException exception) {
+            // the lookup lacks full privilege when the listener lives in another named module
+            factory = MethodHandleSubscriber.FACTORY.bindTo(target.asType(
+                MethodType.methodType(void.class, Object.class, Event.class)));
+        }
+        return new ListenerMethod(eventType, priority, acceptsCancelled, stage,
+            factory.asType(MethodType.methodType(EventSubscriber.class, Object.class)));
+    }
+
+    /**
+     * A {@link Subscribe} method.
+     *
+     * @param eventType        the event class
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription accepts cancelled events
+     * @param stage            the pipeline stage
+     * @param factory          a handle binding the method to a listener, as an
+     *                         {@link EventSubscriber}
+     * @since 1.0.0
+     */
+    @NullMarked
+    record ListenerMethod(Class<? extends Event> eventType, int priority,
+                          boolean acceptsCancelled, EventStage stage, MethodHandle factory) {
+
+        /**
+         * Creates the options this method is subscribed with.
+         *
+         * @param <T> the event type
+         * @return the options
+         * @since 1.0.0
+         */
+        <T extends Event> SubscriptionOptions<T> options() {
+            return SubscriptionOptions.<T>subscriptionOptions().stage(this.stage).build();
+        }
+
+        /**
+         * Creates a subscriber invoking this method on a listener.
+         *
+         * @param listener the listener
+         * @param <T>      the event type
+         * @return the subscriber
+         * @since 1.0.0
+         */
+        @SuppressWarnings("unchecked")
+        <T extends Event> EventSubscriber<T> bind(final Object listener) {
+            try {
+                return (EventSubscriber<T>) this.factory.invokeExact(listener);
+            } catch (final RuntimeException | Error exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+
+    }
+
+    /**
+     * A subscriber invoking a method handle, for methods no invoker can be generated for.
+     *
+     * @param target the bound method handle
+     * @since 1.0.0
+     */
+    @NullMarked
+    private record MethodHandleSubscriber(MethodHandle target) implements EventSubscriber<Event> {
+
+        static final MethodHandle FACTORY;
+
+        static {
+            try {
+                FACTORY = MethodHandles.lookup().findStatic(MethodHandleSubscriber.class, "create",
+                    MethodType.methodType(EventSubscriber.class, MethodHandle.class,
+                        Object.class));
+            } catch (final ReflectiveOperationException exception) {
+                throw new ExceptionInInitializerError(exception);
+            }
+        }
+
+        private static EventSubscriber<Event> create(final MethodHandle target,
+            final Object listener) {
+            return new MethodHandleSubscriber(target.bindTo(listener));
+        }
+
+        @Override
+        public void handle(final Event event) {
+            try {
+                this.target.invokeExact(event);
+            } catch (final RuntimeException | Error exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+
+    }
+
+}
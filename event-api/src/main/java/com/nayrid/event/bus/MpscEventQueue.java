@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An unbounded, lock-free, multi-producer single-consumer queue of events.
+ *
+ * <p>Producers append a node with a single atomic exchange of the tail, then link it to its
+ * predecessor. The consumer follows the links from a sentinel head without any atomic
+ * read-modify-write. A node exchanged but not yet linked is briefly invisible to the consumer,
+ * which then sees the queue as empty until the producer links it.</p>
+ *
+ * <p>The head and the tail are padded onto cache lines of their own, so that polling does not
+ * slow producers down and vice versa.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+final class MpscEventQueue {
+
+    private static final VarHandle NODE;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NODE = lookup.findVarHandle(NodeField.class, "node", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    // the sentinel, only read and written by the consumer
+    private final NodeReference head;
+    // the last node, swapped by producers
+    private final NodeReference tail;
+
+    MpscEventQueue() {
+        final Node sentinel = new Node(null);
+        this.head = new NodeReference(sentinel);
+        this.tail = new NodeReference(sentinel);
+    }
+
+    /**
+     * Adds an event. Safe to call from any thread.
+     *
+     * @param event the event
+     * @since 1.0.0
+     */
+    void offer(final Event event) {
+        final Node node = new Node(event);
+        final Node previous = (Node) NODE.getAndSet(this.tail, node);
+        NEXT.setRelease(previous, node);
+    }
+
+    /**
+     * Removes the oldest event. Must only be called by the consumer.
+     *
+     * @return the event, or null if the queue is empty
+     * @since 1.0.0
+     */
+    @Nullable Event poll() {
+        final Node next = (Node) NEXT.getAcquire(this.head.node);
+        if (next == null) {
+            return null;
+        }
+        final Event event = next.event;
+        // the polled node becomes the sentinel
+        next.event = null;
+        this.head.node = next;
+        return event;
+    }
+
+    /*
+     * A node reference on cache lines of its own. Superclass fields are laid out before subclass
+     * fields, so the hierarchy keeps 128 bytes of padding on both sides of the reference.
+     */
+    @NullMarked
+    @SuppressWarnings("unused")
+    abstract static class NodePadding {
+
+        // fills the gap after the object header, which would otherwise take a subclass field
+        int p;
+        long p00;
+        long p01;
+        long p02;
+        long p03;
+        long p04;
+        long p05;
+        long p06;
+        long p07;
+        long p08;
+        long p09;
+        long p10;
+        long p11;
+        long p12;
+        long p13;
+        long p14;
+        long p15;
+
+    }
+
+    @NullMarked
+    abstract static class NodeField extends NodePadding {
+
+        Node node;
+
+        NodeField(final Node node) {
+            this.node = node;
+        }
+
+    }
+
+    @NullMarked
+    @SuppressWarnings("unused")
+    static final class NodeReference extends NodeField {
+
+        long q00;
+        long q01;
+        long q02;
+        long q03;
+        long q04;
+        long q05;
+        long q06;
+        long q07;
+        long q08;
+        long q09;
+        long q10;
+        long q11;
+        long q12;
+        long q13;
+        long q14;
+        long q15;
+
+        NodeReference(final Node node) {
+            super(node);
+        }
+
+    }
+
+    @NullMarked
+    static final class Node {
+
+        private @Nullable Event event;
+        private @Nullable Node next;
+
+        Node(final @Nullable Event event) {
+            this.event = event;
+        }
+
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.common.examine.reflect.Examine;
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.config.RingBufferConfig;
+import com.nayrid.event.bus.config.RingBufferConfig.WaitStrategy;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import net.kyori.examination.ExaminableProperty;
+import org.jspecify.annotations.NullMarked;
+
+import static com.nayrid.common.Validate.nonNull;
+
+/**
+ * An event bus for high-throughput, fire-and-forget events.
+ *
+ * <p>{@link #publish(Event)} claims a slot in a preallocated ring buffer without locking or
+ * allocating, and returns. Consumer threads owned by the bus drain the buffer and run the
+ * subscribers, so subscribers never run on the publishing thread and, with more than one consumer,
+ * may handle different events concurrently. What happens when the buffer is full is decided by the
+ * {@link RingBufferConfig#backpressurePolicy() backpressure policy}.</p>
+ *
+ * <p>{@link CancellableEvent}s are dispatched synchronously on the publishing thread instead,
+ * since their result has to be known by the time {@link #publish(CancellableEvent)} returns.</p>
+ *
+ * <p>{@link #pool(Class, PoolingConfig) Pooled} events are released by the consumers into a
+ * pool shared by every thread, from which publishers acquire them again.</p>
+ *
+ * <p>The bus must be {@link #close() closed} to stop its consumer threads.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public class RingBufferEventBus extends AbstractEventBus<EventBusConfig> implements
+    AutoCloseable {
+
+    private static final long PARK_NANOS = 1_000L;
+
+    private final @Examine RingBufferConfig ringBufferConfig;
+    private final EventRingBuffer buffer;
+    private final List<Thread> consumers;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running = true;
+
+    RingBufferEventBus(final EventBusConfig config, final RingBufferConfig ringBufferConfig) {
+        super(config);
+        this.ringBufferConfig = nonNull(ringBufferConfig, "ringBufferConfig");
+        this.buffer = new EventRingBuffer(ringBufferConfig.capacity());
+        final List<Thread> consumers = new ArrayList<>(ringBufferConfig.consumers());
+        for (int i = 0; i < ringBufferConfig.consumers(); i++) {
+            consumers.add(Thread.ofPlatform()
+                .name("event-ring-buffer-consumer-" + i)
+                .daemon()
+                .start(this::consume));
+        }
+        this.consumers = List.copyOf(consumers);
+    }
+
+    /**
+     * Creates a new {@link RingBufferEventBus} and starts its consumer threads.
+     *
+     * @param config           the configuration
+     * @param ringBufferConfig the ring buffer configuration
+     * @return an event bus
+     * @since 1.0.0
+     */
+    public static RingBufferEventBus create(final EventBusConfig config,
+        final RingBufferConfig ringBufferConfig) {
+        return new RingBufferEventBus(config, ringBufferConfig);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The event is queued and handled later by a consumer thread, unless it is a
+     * {@link CancellableEvent}, which is dispatched on the calling thread whatever the type it
+     * is published as.</p>
+     *
+     * @throws IllegalStateException if the bus is closed
+     */
+    @Override
+    public <T extends Event> void publish(final T event) {
+        if (event instanceof CancellableEvent) {
+            super.publish(event);
+            return;
+        }
+        if (!this.running) {
+            throw new IllegalStateException("Event bus is closed");
+        }
+        if (this.buffer.offer(event)) {
+            this.offered();
+            return;
+        }
+        switch (this.ringBufferConfig.backpressurePolicy()) {
+            case BLOCK -> {
+                int attempt = 0;
+                while (!this.buffer.offer(event)) {
+                    if (!this.running) {
+                        throw new IllegalStateException("Event bus is closed");
+                    }
+                    this.idle(attempt++);
+                }
+                this.offered();
+            }
+            case DROP -> {
+                this.dropped.increment();
+                this.discard(event);
+            }
+            case DROP_OLDEST -> {
+                while (!this.buffer.offer(event)) {
+                    final Event evicted = this.buffer.poll();
+                    if (evicted != null) {
+                        this.dropped.increment();
+                        this.discard(evicted);
+                    }
+                }
+                this.offered();
+            }
+        }
+    }
+
+    /**
+     * Makes sure an event offered while the bus is closing is still dispatched.
+     *
+     * <p>A publisher may pass the running check and offer its event after the consumers' final
+     * drain. The fence orders the offer before the second check, against {@link #close()}
+     * clearing the flag before its own drain, so either this thread or the closing one sees the
+     * event.</p>
+     */
+    private void offered() {
+        VarHandle.fullFence();
+        if (!this.running) {
+            this.drain();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Cancellable events bypass the ring buffer and are dispatched on the calling thread.</p>
+     */
+    @Override
+    public <T extends CancellableEvent> boolean publish(final T event) {
+        return super.publish(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The events are queued one by one, unless they are cancellable, in which case the batch
+     * is dispatched on the calling thread.</p>
+     */
+    @Override
+    public <T extends Event> void publishAll(final Class<T> eventType,
+        final List<? extends T> events, final BatchOrder order) {
+        if (CancellableEvent.class.isAssignableFrom(eventType)) {
+            super.publishAll(eventType, events, order);
+            return;
+        }
+        for (final T event : events) {
+            this.publish(event);
+        }
+    }
+
+    private void consume() {
+        int attempt = 0;
+        while (this.running) {
+            final Event event = this.buffer.poll();
+            if (event == null) {
+                this.idle(attempt++);
+                continue;
+            }
+            attempt = 0;
+            this.handle(event);
+        }
+        // drain what was queued before closing
+        this.drain();
+    }
+
+    private void drain() {
+        for (Event event = this.buffer.poll(); event != null; event = this.buffer.poll()) {
+            this.handle(event);
+        }
+    }
+
+    private void handle(final Event event) {
+        try {
+            super.publish(event);
+        } catch (final Throwable throwable) {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        }
+    }
+
+    private void idle(final int attempt) {
+        final WaitStrategy waitStrategy = this.ringBufferConfig.waitStrategy();
+        if (waitStrategy == WaitStrategy.BUSY_SPIN) {
+            Thread.onSpinWait();
+        } else if (waitStrategy == WaitStrategy.YIELD || attempt < 100) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * Gets the number of events discarded because the ring buffer was full.
+     *
+     * @return the dropped event count
+     * @since 1.0.0
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Gets the ring buffer configuration.
+     *
+     * @return the ring buffer configuration
+     * @since 1.0.0
+     */
+    public RingBufferConfig ringBufferConfig() {
+        return this.ringBufferConfig;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Pooled events are released by the consumer threads, so pools are shared between every
+     * thread for publishers to reuse them.</p>
+     */
+    @Override
+    <T extends Event> EventPool<T> newPool(final PoolingConfig<T> config) {
+        return EventPool.shared(config);
+    }
+
+    /**
+     * Stops accepting events and waits for the consumer threads to drain the ring buffer and
+     * exit. Events queued by publishers racing the close after the consumers' final drain are
+     * dispatched on the calling thread.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        boolean interrupted = false;
+        for (final Thread consumer : this.consumers) {
+            while (consumer.isAlive()) {
+                try {
+                    consumer.join();
+                } catch (final InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+        // events offered by publishers that passed the running check as the consumers exited
+        this.drain();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.concat(Stream.of(ExaminableProperty.of("queued", this.buffer.size()),
+                ExaminableProperty.of("dropped", this.dropped())),
+            super.examinableProperties());
+    }
+
+    @Override
+    public String examinableName() {
+        return RingBufferEventBus.class.getSimpleName();
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.common.examine.AbstractExaminable;
+import com.nayrid.common.examine.reflect.Examine;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import net.kyori.examination.Examinable;
+import net.kyori.examination.ExaminableProperty;
+import org.jspecify.annotations.NullMarked;
+
+import static com.nayrid.common.Validate.nonNull;
+
+/**
+ * A fixed set of independent event buses, meant to be owned by one thread each, like the regions
+ * of a sharded simulation.
+ *
+ * <p>Every {@link Shard} is a bus of its own, with its own registrations, subscriptions and
+ * dispatchers, so publishing on a shard never touches state shared with the other shards. Events
+ * cross shards only through {@link #route(int, Event)}, which appends them to the target shard's
+ * multi-producer single-consumer queue. The thread owning a shard publishes the events routed to
+ * it by calling {@link Shard#drain()}, for example once per tick.</p>
+ *
+ * <p>A shard's {@link Shard#pool(Class, PoolingConfig) pools} are shared between threads, so
+ * that an event acquired from the target shard by a routing thread returns to where that thread
+ * can acquire it again once the target shard handled it.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public final class ShardedEventBus extends AbstractExaminable implements Examinable {
+
+    private final @Examine EventBusConfig config;
+    private final List<Shard> shards;
+
+    ShardedEventBus(final EventBusConfig config, final int shards) {
+        this.config = nonNull(config, "config");
+        if (shards <= 0) {
+            throw new IllegalArgumentException("shards must be positive: " + shards);
+        }
+        final List<Shard> created = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            created.add(new Shard(config, this, i));
+        }
+        this.shards = List.copyOf(created);
+    }
+
+    /**
+     * Creates a new {@link ShardedEventBus}.
+     *
+     * @param config the configuration of every shard
+     * @param shards the number of shards
+     * @return a sharded event bus
+     * @since 1.0.0
+     */
+    public static ShardedEventBus create(final EventBusConfig config, final int shards) {
+        return new ShardedEventBus(config, shards);
+    }
+
+    /**
+     * Gets a shard by id.
+     *
+     * @param shardId the shard id, from {@code 0} to {@link #shardCount()} exclusive
+     * @return the shard
+     * @throws IndexOutOfBoundsException if no shard has the id
+     * @since 1.0.0
+     */
+    public Shard shard(final int shardId) {
+        return this.shards.get(shardId);
+    }
+
+    /**
+     * Gets every shard, in id order.
+     *
+     * @return the shards
+     * @since 1.0.0
+     */
+    public List<Shard> shards() {
+        return this.shards;
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @return the shard count
+     * @since 1.0.0
+     */
+    public int shardCount() {
+        return this.shards.size();
+    }
+
+    /**
+     * Queues an event to be published on a shard, the next time it is drained. Safe to call from
+     * any thread. Events routed from a single thread are published in routing order.
+     *
+     * @param shardId the target shard id
+     * @param event   the event
+     * @throws IndexOutOfBoundsException if no shard has the id
+     * @since 1.0.0
+     */
+    public void route(final int shardId, final Event event) {
+        this.shards.get(shardId).inbox.offer(nonNull(event, "event"));
+    }
+
+    @Override
+    public Stream<? extends ExaminableProperty> examinableProperties() {
+        return Stream.concat(Stream.of(ExaminableProperty.of("shards", this.shards)),
+            super.examinableProperties());
+    }
+
+    @Override
+    public String examinableName() {
+        return ShardedEventBus.class.getSimpleName();
+    }
+
+    /**
+     * A single shard of a {@link ShardedEventBus}.
+     *
+     * <p>Publishing and subscribing work as on any other bus, and are only meant to be done by
+     * the thread owning the shard. Only routing is safe from other threads.</p>
+     *
+     * @since 1.0.0
+     */
+    @NullMarked
+    public static final class Shard extends AbstractEventBus<EventBusConfig> {
+
+        private final ShardedEventBus owner;
+        private final @Examine int id;
+        private final MpscEventQueue inbox = new MpscEventQueue();
+
+        Shard(final EventBusConfig config, final ShardedEventBus owner, final int id) {
+            super(config);
+            this.owner = owner;
+            this.id = id;
+        }
+
+        /**
+         * Gets the id of this shard.
+         *
+         * @return the shard id
+         * @since 1.0.0
+         */
+        public int id() {
+            return this.id;
+        }
+
+        /**
+         * Queues an event to be published on a shard of the same {@link ShardedEventBus}.
+         *
+         * @param shardId the target shard id
+         * @param event   the event
+         * @throws IndexOutOfBoundsException if no shard has the id
+         * @see ShardedEventBus#route(int, Event)
+         * @since 1.0.0
+         */
+        public void route(final int shardId, final Event event) {
+            this.owner.route(shardId, event);
+        }
+
+        /**
+         * Publishes every event routed to this shard so far, on the calling thread.
+         *
+         * @return the number of events published
+         * @since 1.0.0
+         */
+        public int drain() {
+            return this.drain(Integer.MAX_VALUE);
+        }
+
+        /**
+         * Publishes at most {@code max} of the events routed to this shard, oldest first, on the
+         * calling thread.
+         *
+         * @param max the maximum number of events to publish
+         * @return the number of events published
+         * @since 1.0.0
+         */
+        public int drain(final int max) {
+            int drained = 0;
+            Event event;
+            while (drained < max && (event = this.inbox.poll()) != null) {
+                this.publish(event);
+                drained++;
+            }
+            return drained;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Routed events are released by the thread draining the target shard, so pools are
+         * shared between every thread for the routing threads to reuse them.</p>
+         */
+        @Override
+        <T extends Event> EventPool<T> newPool(final PoolingConfig<T> config) {
+            return EventPool.shared(config);
+        }
+
+        @Override
+        public String examinableName() {
+            return Shard.class.getSimpleName();
+        }
+
+    }
+
+}
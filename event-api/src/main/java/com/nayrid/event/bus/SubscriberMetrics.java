@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.bus.metrics.SubscriptionMetrics;
+import com.nayrid.event.bus.subscription.EventStage;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The live metrics of a subscription of an instrumented bus.
+ *
+ * <p>Every counter is a {@link LongAdder}, striped under contention, so that subscribers called
+ * from many threads at once do not contend on a single cache line.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+final class SubscriberMetrics {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[SubscriptionMetrics.BUCKETS];
+
+    SubscriberMetrics() {
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a single invocation.
+     *
+     * @param nanos the time spent in the subscriber
+     * @since 1.0.0
+     */
+    void record(final long nanos) {
+        this.invocations.increment();
+        this.totalNanos.add(nanos);
+        this.buckets[Math.min(SubscriptionMetrics.BUCKETS - 1,
+            Long.SIZE - Long.numberOfLeadingZeros(Math.max(0, nanos)))].increment();
+    }
+
+    /**
+     * Takes a snapshot of the metrics. Counters are read one by one, so a snapshot taken while
+     * the subscriber runs may be off by the invocations in flight.
+     *
+     * @param subscriber the subscriber's class name
+     * @param stage      the subscription's stage
+     * @param priority   the subscription's priority
+     * @return the snapshot
+     * @since 1.0.0
+     */
+    SubscriptionMetrics snapshot(final String subscriber, final EventStage stage,
+        final int priority) {
+        final long[] histogram = new long[this.buckets.length];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = this.buckets[i].sum();
+        }
+        return new SubscriptionMetrics(subscriber, stage, priority, this.invocations.sum(),
+            this.totalNanos.sum(), histogram);
+    }
+
+}
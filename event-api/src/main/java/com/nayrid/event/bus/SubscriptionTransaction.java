@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A set of subscription changes applied together by {@link EventBus#batch(java.util.function.Consumer)}.
+ *
+ * <p>Changes are only recorded by these methods, and take effect once the transaction function
+ * returns.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public interface SubscriptionTransaction {
+
+    /**
+     * Subscribes to an event with a given event type and options.
+     *
+     * @param eventType        the event class
+     * @param subscriber       the event subscriber
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription should accept cancelled events
+     * @param options          the subscription options
+     * @param <T>              the event type
+     * @since 1.0.0
+     */
+    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
+        int priority, boolean acceptsCancelled, SubscriptionOptions<T> options);
+
+    /**
+     * Subscribes to an event with a given event type.
+     *
+     * @param eventType        the event class
+     * @param subscriber       the event subscriber
+     * @param priority         the subscription priority
+     * @param acceptsCancelled if the subscription should accept cancelled events
+     * @param <T>              the event type
+     * @since 1.0.0
+     */
+    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
+        int priority, boolean acceptsCancelled);
+
+    /**
+     * Subscribes to an event with a given event type.
+     *
+     * @param eventType  the event class
+     * @param subscriber the event subscriber
+     * @param priority   the subscription priority
+     * @param <T>        the event type
+     * @since 1.0.0
+     */
+    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber,
+        int priority);
+
+    /**
+     * Subscribes to an event with a given event type.
+     *
+     * @param eventType  the event class
+     * @param subscriber the event subscriber
+     * @param <T>        the event type
+     * @since 1.0.0
+     */
+    <T extends Event> void subscribe(Class<T> eventType, EventSubscriber<T> subscriber);
+
+    /**
+     * Unsubscribes from an event using its event type.
+     *
+     * @param eventType  the event class
+     * @param subscriber the event subscriber
+     * @param <T>        the event type
+     * @since 1.0.0
+     */
+    <T extends Event> void unsubscribe(Class<T> eventType, EventSubscriber<T> subscriber);
+
+}
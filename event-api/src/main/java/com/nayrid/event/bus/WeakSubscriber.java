@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.AbstractEventBus.EventRegistrationImpl;
+import com.nayrid.event.bus.AbstractEventBus.EventRegistrationImpl.Node;
+import com.nayrid.event.bus.subscription.BatchEventSubscriber;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.SubscriptionHandle;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A subscriber referencing the subscriber of a weak subscription, forwarding events to it while
+ * it is reachable.
+ *
+ * <p>Once the subscriber is collected, its reference is enqueued, and a single daemon thread
+ * shared by every bus removes the subscription. The thread drains everything enqueued at once,
+ * removing the subscriptions of each registration together, so that dependent dispatchers are
+ * only invalidated, and rebuilt, once per sweep. Until then a dispatcher may still call a cleared
+ * subscriber, which does nothing.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+final class WeakSubscriber<T extends Event> extends WeakReference<EventSubscriber<T>> implements
+    BatchEventSubscriber<T> {
+
+    private static final Logger LOGGER = System.getLogger(WeakSubscriber.class.getName());
+    private static final ReferenceQueue<EventSubscriber<?>> CLEARED = new ReferenceQueue<>();
+
+    static {
+        Thread.ofPlatform()
+            .name("event-bus-weak-subscriber-cleaner")
+            .daemon()
+            .start(WeakSubscriber::clean);
+    }
+
+    // the referent's, so that the subscriber can be found again after it was cleared
+    private final int hash;
+    private volatile @Nullable SubscriptionHandle handle;
+
+    private WeakSubscriber(final EventSubscriber<T> subscriber) {
+        super(subscriber, CLEARED);
+        this.hash = subscriber.hashCode();
+    }
+
+    /**
+     * Subscribes to a registration, referencing the subscriber weakly.
+     *
+     * @param subscriber the subscriber
+     * @param subscribe  subscribes the given weak subscriber, returning its handle
+     * @param <T>        the event type
+     * @return the handle of the subscription
+     * @since 1.0.0
+     */
+    static <T extends Event> SubscriptionHandle subscribe(final EventSubscriber<T> subscriber,
+        final Function<? super WeakSubscriber<T>, SubscriptionHandle> subscribe) {
+        final WeakSubscriber<T> weak = new WeakSubscriber<>(subscriber);
+        try {
+            final SubscriptionHandle handle = subscribe.apply(weak);
+            weak.handle = handle;
+            return handle;
+        } finally {
+            // the subscription can't be removed before it has its handle
+            Reference.reachabilityFence(subscriber);
+        }
+    }
+
+    private static void clean() {
+        while (true) {
+            final List<WeakSubscriber<?>> cleared = new ArrayList<>();
+            try {
+                cleared.add((WeakSubscriber<?>) CLEARED.remove());
+            } catch (final InterruptedException exception) {
+                continue;
+            }
+            Reference<? extends EventSubscriber<?>> reference;
+            while ((reference = CLEARED.poll()) != null) {
+                cleared.add((WeakSubscriber<?>) reference);
+            }
+            try {
+                purge(cleared);
+            } catch (final RuntimeException | Error exception) {
+                // the thread is shared by every bus, and must outlive any single failure
+                LOGGER.log(Level.WARNING, "Failed to remove cleared weak subscriptions",
+                    exception);
+            }
+        }
+    }
+
+    /**
+     * Removes the subscriptions of cleared subscribers, each registration at once.
+     *
+     * @param cleared the cleared subscribers
+     * @since 1.0.0
+     */
+    static void purge(final List<WeakSubscriber<?>> cleared) {
+        final Map<EventRegistrationImpl<?>, List<Node<?>>> nodes = new IdentityHashMap<>();
+        for (final WeakSubscriber<?> subscriber : cleared) {
+            final SubscriptionHandle handle = subscriber.handle;
+            if (handle instanceof Node<?> node) {
+                nodes.computeIfAbsent(node.registration, registration -> new ArrayList<>())
+                    .add(node);
+            } else if (handle != null) {
+                handle.close();
+            }
+        }
+        nodes.forEach(EventRegistrationImpl::removeAll);
+    }
+
+    @Override
+    public void handle(final T event) {
+        final EventSubscriber<T> subscriber = this.get();
+        if (subscriber != null) {
+            subscriber.handle(event);
+        }
+    }
+
+    @Override
+    public void handleAll(final List<T> events) {
+        final EventSubscriber<T> subscriber = this.get();
+        if (subscriber instanceof BatchEventSubscriber<T> batch) {
+            batch.handleAll(events);
+        } else if (subscriber != null) {
+            for (final T event : events) {
+                subscriber.handle(event);
+            }
+        }
+    }
+
+    /**
+     * Gets if the given subscriber is referenced by this weak subscriber.
+     *
+     * @param subscriber the subscriber
+     * @return if it is referenced by this weak subscriber
+     * @since 1.0.0
+     */
+    boolean references(final EventSubscriber<?> subscriber) {
+        return subscriber.equals(this.get());
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof WeakSubscriber<?> that) || this.hash != that.hash) {
+            return false;
+        }
+        // cleared subscribers are only equal to themselves
+        final EventSubscriber<T> subscriber = this.get();
+        return subscriber != null && subscriber.equals(that.get());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+}
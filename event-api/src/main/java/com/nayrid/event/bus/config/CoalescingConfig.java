@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.config;
+
+import com.nayrid.common.AbstractBuilder;
+import com.nayrid.common.Buildable;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.EventBus;
+import com.nayrid.event.bus.config.CoalescingConfigImpl.BuilderImpl;
+import com.nayrid.event.bus.subscription.EventProperty;
+import java.time.Duration;
+import java.util.function.BinaryOperator;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Configuration for coalescing an event type, through {@link EventBus#coalesce(Class,
+ * CoalescingConfig)}.
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+public interface CoalescingConfig<T extends Event> extends
+    Buildable<CoalescingConfig<T>, CoalescingConfig.Builder<T>> {
+
+    /**
+     * Creates a new {@link CoalescingConfig} builder.
+     *
+     * @param <T> the event type
+     * @return a builder
+     * @since 1.0.0
+     */
+    @Contract(value = "-> new", pure = true)
+    static <T extends Event> CoalescingConfig.Builder<T> coalescingConfig() {
+        return new BuilderImpl<>();
+    }
+
+    /**
+     * Gets the function merging a pending event with a newer one, called with the pending event
+     * first.
+     *
+     * @return the merge function
+     * @since 1.0.0
+     */
+    BinaryOperator<T> merge();
+
+    /**
+     * Gets the property pending events are grouped by. Only events with equal values are
+     * merged.
+     *
+     * @return the grouping property, or null if all pending events are merged into one
+     * @since 1.0.0
+     */
+    @Nullable EventProperty<? super T, ?> groupBy();
+
+    /**
+     * Gets how long the first pending event waits before the pending events are dispatched.
+     *
+     * @return the window, or null if pending events are only dispatched by
+     *     {@link EventBus#flush()}
+     * @since 1.0.0
+     */
+    @Nullable Duration window();
+
+    /**
+     * A {@link CoalescingConfig} builder.
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    interface Builder<T extends Event> extends AbstractBuilder<CoalescingConfig<T>> {
+
+        /**
+         * Sets the function merging a pending event with a newer one, called with the pending
+         * event first. By default, the newer event replaces the pending one.
+         *
+         * @param merge the merge function
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> merge(BinaryOperator<T> merge);
+
+        /**
+         * Sets the property pending events are grouped by, so that only events with equal values
+         * are merged.
+         *
+         * @param groupBy the grouping property
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> groupBy(EventProperty<? super T, ?> groupBy);
+
+        /**
+         * Sets how long the first pending event waits before the pending events are dispatched.
+         * Without a window, pending events are only dispatched by {@link EventBus#flush()}.
+         *
+         * @param window the window
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> window(Duration window);
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.config;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.subscription.EventProperty;
+import java.time.Duration;
+import java.util.function.BinaryOperator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import static com.nayrid.common.Validate.nonNull;
+
+@NullMarked
+record CoalescingConfigImpl<T extends Event>(BinaryOperator<T> merge,
+                                             @Nullable EventProperty<? super T, ?> groupBy,
+                                             @Nullable Duration window) implements
+    CoalescingConfig<T> {
+
+    CoalescingConfigImpl {
+        nonNull(merge, "merge");
+        if (window != null && (window.isNegative() || window.isZero())) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+    }
+
+    @Override
+    public Builder<T> toBuilder() {
+        return new BuilderImpl<>(this.merge(), this.groupBy(), this.window());
+    }
+
+    static final class BuilderImpl<T extends Event> implements CoalescingConfig.Builder<T> {
+
+        private BinaryOperator<T> merge = (pending, newer) -> newer;
+        private @Nullable EventProperty<? super T, ?> groupBy;
+        private @Nullable Duration window;
+
+        BuilderImpl() {
+        }
+
+        private BuilderImpl(final BinaryOperator<T> merge,
+            final @Nullable EventProperty<? super T, ?> groupBy,
+            final @Nullable Duration window) {
+            this.merge = merge;
+            this.groupBy = groupBy;
+            this.window = window;
+        }
+
+        @Override
+        public Builder<T> merge(final BinaryOperator<T> merge) {
+            this.merge = merge;
+            return this;
+        }
+
+        @Override
+        public Builder<T> groupBy(final EventProperty<? super T, ?> groupBy) {
+            this.groupBy = groupBy;
+            return this;
+        }
+
+        @Override
+        public Builder<T> window(final Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        @Override
+        public CoalescingConfig<T> build() {
+            return new CoalescingConfigImpl<>(this.merge, this.groupBy, this.window);
+        }
+
+    }
+
+}
@@ -25,10 +25,14 @@ package com.nayrid.event.bus.config;
 
 import com.nayrid.common.AbstractBuilder;
 import com.nayrid.common.Buildable;
+import com.nayrid.event.Event;
 import com.nayrid.event.bus.EventBus;
+import com.nayrid.event.bus.EventDispatchException;
 import com.nayrid.event.bus.config.EventBusConfigImpl.BuilderImpl;
+import com.nayrid.event.bus.subscription.EventSubscriber;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Configuration for the behaviour of an {@link EventBus}.
@@ -65,6 +69,62 @@ public interface EventBusConfig extends Buildable<EventBusConfig, EventBusConfig
      */
     boolean acceptsCancelled();
 
+    /**
+     * Gets if the bus records dispatch metrics, exposed by
+     * {@link com.nayrid.event.bus.AbstractEventBus#metrics()}.
+     *
+     * @return if the bus is instrumented
+     * @since 1.0.0
+     */
+    boolean instrumented();
+
+    /**
+     * Gets what happens when a subscriber throws an exception.
+     *
+     * @return the error policy
+     * @since 1.0.0
+     */
+    ErrorPolicy errorPolicy();
+
+    /**
+     * Gets the subscriber receiving the events no subscriber received, if any.
+     *
+     * @return the dead-letter subscriber, or null
+     * @since 1.0.0
+     */
+    @Nullable EventSubscriber<Event> deadLetters();
+
+    /**
+     * What happens when a subscriber throws an exception while handling an event.
+     *
+     * @since 1.0.0
+     */
+    enum ErrorPolicy {
+
+        /**
+         * Rethrows the exception from the publish call, skipping the remaining subscribers.
+         *
+         * @since 1.0.0
+         */
+        PROPAGATE,
+
+        /**
+         * Logs the exception, and carries on with the remaining subscribers.
+         *
+         * @since 1.0.0
+         */
+        LOG,
+
+        /**
+         * Carries on with the remaining subscribers, then throws an
+         * {@link EventDispatchException} holding every exception thrown while handling the event.
+         *
+         * @since 1.0.0
+         */
+        COLLECT
+
+    }
+
     /**
      * An {@link EventBusConfig} builder.
      *
@@ -74,6 +134,8 @@ public interface EventBusConfig extends Buildable<EventBusConfig, EventBusConfig
 
         int DEFAULT_PRIORITY = 0;
         boolean DEFAULT_ACCEPTS_CANCELLED = false;
+        boolean DEFAULT_INSTRUMENTED = false;
+        ErrorPolicy DEFAULT_ERROR_POLICY = ErrorPolicy.PROPAGATE;
 
         /**
          * Gets the default priority events are registered with.
@@ -93,6 +155,39 @@ public interface EventBusConfig extends Buildable<EventBusConfig, EventBusConfig
         @Contract(value = "_ -> this", mutates = "this")
         Builder acceptsCancelled(boolean acceptsCancelled);
 
+        /**
+         * Sets if the bus records publish counts per event type, and invocation counts and
+         * latencies per subscription. Uninstrumented buses dispatch without any bookkeeping.
+         *
+         * @param instrumented if the bus is instrumented
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder instrumented(boolean instrumented);
+
+        /**
+         * Sets what happens when a subscriber throws an exception.
+         *
+         * @param errorPolicy the error policy
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder errorPolicy(ErrorPolicy errorPolicy);
+
+        /**
+         * Sets the subscriber receiving the events no subscriber received, because no
+         * subscription exists for their type and supertypes, or because the property match,
+         * filter or cancellation of every subscription skipped them.
+         *
+         * @param deadLetters the dead-letter subscriber, or null to drop such events
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder deadLetters(@Nullable EventSubscriber<Event> deadLetters);
+
     }
 
 }
@@ -23,27 +23,47 @@
  */
 package com.nayrid.event.bus.config;
 
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.subscription.EventSubscriber;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import static com.nayrid.common.Validate.nonNull;
 
 @NullMarked
-record EventBusConfigImpl(int priority, boolean acceptsCancelled) implements EventBusConfig {
+record EventBusConfigImpl(int priority, boolean acceptsCancelled, boolean instrumented,
+                          ErrorPolicy errorPolicy, @Nullable EventSubscriber<Event> deadLetters)
+    implements EventBusConfig {
+
+    EventBusConfigImpl {
+        nonNull(errorPolicy, "errorPolicy");
+    }
 
     @Override
     public Builder toBuilder() {
-        return new BuilderImpl(this.priority(), this.acceptsCancelled());
+        return new BuilderImpl(this.priority(), this.acceptsCancelled(), this.instrumented(),
+            this.errorPolicy(), this.deadLetters());
     }
 
     static final class BuilderImpl implements EventBusConfig.Builder {
 
         private int priority = DEFAULT_PRIORITY;
         private boolean acceptsCancelled = DEFAULT_ACCEPTS_CANCELLED;
+        private boolean instrumented = DEFAULT_INSTRUMENTED;
+        private ErrorPolicy errorPolicy = DEFAULT_ERROR_POLICY;
+        private @Nullable EventSubscriber<Event> deadLetters;
 
         BuilderImpl() {
         }
 
-        private BuilderImpl(final int priority, final boolean acceptsCancelled) {
+        private BuilderImpl(final int priority, final boolean acceptsCancelled,
+            final boolean instrumented, final ErrorPolicy errorPolicy,
+            final @Nullable EventSubscriber<Event> deadLetters) {
             this.priority = priority;
             this.acceptsCancelled = acceptsCancelled;
+            this.instrumented = instrumented;
+            this.errorPolicy = errorPolicy;
+            this.deadLetters = deadLetters;
         }
 
         @Override
@@ -58,9 +78,28 @@ record EventBusConfigImpl(int priority, boolean acceptsCancelled) implements Eve
             return this;
         }
 
+        @Override
+        public Builder instrumented(final boolean instrumented) {
+            this.instrumented = instrumented;
+            return this;
+        }
+
+        @Override
+        public Builder errorPolicy(final ErrorPolicy errorPolicy) {
+            this.errorPolicy = nonNull(errorPolicy, "errorPolicy");
+            return this;
+        }
+
+        @Override
+        public Builder deadLetters(final @Nullable EventSubscriber<Event> deadLetters) {
+            this.deadLetters = deadLetters;
+            return this;
+        }
+
         @Override
         public EventBusConfig build() {
-            return new EventBusConfigImpl(this.priority, this.acceptsCancelled);
+            return new EventBusConfigImpl(this.priority, this.acceptsCancelled, this.instrumented,
+                this.errorPolicy, this.deadLetters);
         }
 
     }
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.config;
+
+import com.nayrid.common.AbstractBuilder;
+import com.nayrid.common.Buildable;
+import com.nayrid.event.CancellableEvent;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.EventBus;
+import com.nayrid.event.bus.config.PoolingConfigImpl.BuilderImpl;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Configuration for pooling the instances of an event type, through
+ * {@link EventBus#pool(Class, PoolingConfig)}.
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+public interface PoolingConfig<T extends Event> extends
+    Buildable<PoolingConfig<T>, PoolingConfig.Builder<T>> {
+
+    /**
+     * Creates a new {@link PoolingConfig} builder.
+     *
+     * @param <T> the event type
+     * @return a builder
+     * @since 1.0.0
+     */
+    @Contract(value = "-> new", pure = true)
+    static <T extends Event> PoolingConfig.Builder<T> poolingConfig() {
+        return new BuilderImpl<>();
+    }
+
+    /**
+     * Gets the factory creating events when the pool is empty.
+     *
+     * @return the factory
+     * @since 1.0.0
+     */
+    Supplier<T> factory();
+
+    /**
+     * Gets the hook resetting the state of an event when it is released back into the pool.
+     * The cancelled state of a {@link CancellableEvent} is reset regardless, once the event is
+     * acquired again.
+     *
+     * @return the reset hook
+     * @since 1.0.0
+     */
+    Consumer<? super T> reset();
+
+    /**
+     * Gets the maximum number of idle events pooled per thread, or in total for the buses
+     * sharing their pools between threads, which round it up to a power of two.
+     *
+     * @return the capacity
+     * @since 1.0.0
+     */
+    int capacity();
+
+    /**
+     * A {@link PoolingConfig} builder.
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    interface Builder<T extends Event> extends AbstractBuilder<PoolingConfig<T>> {
+
+        int DEFAULT_CAPACITY = 64;
+
+        /**
+         * Sets the factory creating events when the pool is empty. Required.
+         *
+         * @param factory the factory
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> factory(Supplier<T> factory);
+
+        /**
+         * Sets the hook resetting the state of an event when it is released back into the pool,
+         * so that it holds no references to the data it was last published with. By default,
+         * only the cancelled state of a {@link CancellableEvent} is reset, once the event is
+         * acquired again.
+         *
+         * @param reset the reset hook
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> reset(Consumer<? super T> reset);
+
+        /**
+         * Sets the maximum number of idle events pooled per thread, or in total for the buses
+         * sharing their pools between threads. Events released into a full pool are left to the
+         * garbage collector.
+         *
+         * @param capacity the capacity
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> capacity(int capacity);
+
+    }
+
+}
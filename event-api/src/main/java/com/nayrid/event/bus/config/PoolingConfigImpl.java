@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.config;
+
+import com.nayrid.event.Event;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import static com.nayrid.common.Validate.nonNull;
+
+@NullMarked
+record PoolingConfigImpl<T extends Event>(Supplier<T> factory, Consumer<? super T> reset,
+                                          int capacity) implements PoolingConfig<T> {
+
+    PoolingConfigImpl {
+        nonNull(factory, "factory");
+        nonNull(reset, "reset");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+    }
+
+    @Override
+    public Builder<T> toBuilder() {
+        return new BuilderImpl<>(this.factory(), this.reset(), this.capacity());
+    }
+
+    static final class BuilderImpl<T extends Event> implements PoolingConfig.Builder<T> {
+
+        private @Nullable Supplier<T> factory;
+        private Consumer<? super T> reset = event -> {
+        };
+        private int capacity = DEFAULT_CAPACITY;
+
+        BuilderImpl() {
+        }
+
+        private BuilderImpl(final Supplier<T> factory, final Consumer<? super T> reset,
+            final int capacity) {
+            this.factory = factory;
+            this.reset = reset;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public Builder<T> factory(final Supplier<T> factory) {
+            this.factory = factory;
+            return this;
+        }
+
+        @Override
+        public Builder<T> reset(final Consumer<? super T> reset) {
+            this.reset = reset;
+            return this;
+        }
+
+        @Override
+        public Builder<T> capacity(final int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        @Override
+        public PoolingConfig<T> build() {
+            return new PoolingConfigImpl<>(nonNull(this.factory, "factory"), this.reset,
+                this.capacity);
+        }
+
+    }
+
+}
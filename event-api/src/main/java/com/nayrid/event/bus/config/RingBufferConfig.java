@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.config;
+
+import com.nayrid.common.AbstractBuilder;
+import com.nayrid.common.Buildable;
+import com.nayrid.event.bus.RingBufferEventBus;
+import com.nayrid.event.bus.config.RingBufferConfigImpl.BuilderImpl;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Configuration for the ring buffer of a {@link RingBufferEventBus}.
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public interface RingBufferConfig extends Buildable<RingBufferConfig, RingBufferConfig.Builder> {
+
+    /**
+     * Creates a new {@link RingBufferConfig} builder.
+     *
+     * @return a builder
+     * @since 1.0.0
+     */
+    @Contract(value = "-> new", pure = true)
+    static RingBufferConfig.Builder ringBufferConfig() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Gets the number of slots in the ring buffer, always a power of two.
+     *
+     * @return the capacity
+     * @since 1.0.0
+     */
+    int capacity();
+
+    /**
+     * Gets the number of consumer threads draining the ring buffer.
+     *
+     * @return the consumer count
+     * @since 1.0.0
+     */
+    int consumers();
+
+    /**
+     * Gets how idle consumers, and producers blocked on a full buffer, wait.
+     *
+     * @return the wait strategy
+     * @since 1.0.0
+     */
+    WaitStrategy waitStrategy();
+
+    /**
+     * Gets what happens when an event is published while the ring buffer is full.
+     *
+     * @return the backpressure policy
+     * @since 1.0.0
+     */
+    BackpressurePolicy backpressurePolicy();
+
+    /**
+     * How a thread waits for the ring buffer to change.
+     *
+     * @since 1.0.0
+     */
+    enum WaitStrategy {
+
+        /**
+         * Spins on the CPU. Lowest latency, but keeps a core busy.
+         *
+         * @since 1.0.0
+         */
+        BUSY_SPIN,
+
+        /**
+         * Yields the CPU between attempts.
+         *
+         * @since 1.0.0
+         */
+        YIELD,
+
+        /**
+         * Parks the thread for a short, fixed time between attempts.
+         *
+         * @since 1.0.0
+         */
+        PARK
+
+    }
+
+    /**
+     * What happens to an event published while the ring buffer is full.
+     *
+     * @since 1.0.0
+     */
+    enum BackpressurePolicy {
+
+        /**
+         * The publisher waits, using the configured {@link WaitStrategy}, until a slot frees up.
+         *
+         * @since 1.0.0
+         */
+        BLOCK,
+
+        /**
+         * The published event is discarded, and released back into its pool if its type is
+         * pooled.
+         *
+         * @since 1.0.0
+         */
+        DROP,
+
+        /**
+         * The oldest queued event is discarded to make room for the published one, and released
+         * back into its pool if its type is pooled.
+         *
+         * @since 1.0.0
+         */
+        DROP_OLDEST
+
+    }
+
+    /**
+     * A {@link RingBufferConfig} builder.
+     *
+     * @since 1.0.0
+     */
+    interface Builder extends AbstractBuilder<RingBufferConfig> {
+
+        int DEFAULT_CAPACITY = 1024;
+        int DEFAULT_CONSUMERS = 1;
+        WaitStrategy DEFAULT_WAIT_STRATEGY = WaitStrategy.PARK;
+        BackpressurePolicy DEFAULT_BACKPRESSURE_POLICY = BackpressurePolicy.BLOCK;
+
+        /**
+         * Sets the number of slots in the ring buffer, rounded up to a power of two.
+         *
+         * @param capacity the capacity
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder capacity(int capacity);
+
+        /**
+         * Sets the number of consumer threads draining the ring buffer.
+         *
+         * @param consumers the consumer count
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder consumers(int consumers);
+
+        /**
+         * Sets how idle consumers, and producers blocked on a full buffer, wait.
+         *
+         * @param waitStrategy the wait strategy
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder waitStrategy(WaitStrategy waitStrategy);
+
+        /**
+         * Sets what happens when an event is published while the ring buffer is full.
+         *
+         * @param backpressurePolicy the backpressure policy
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder backpressurePolicy(BackpressurePolicy backpressurePolicy);
+
+    }
+
+}
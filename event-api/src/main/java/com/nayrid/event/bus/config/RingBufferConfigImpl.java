@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.config;
+
+import org.jspecify.annotations.NullMarked;
+
+import static com.nayrid.common.Validate.nonNull;
+
+@NullMarked
+record RingBufferConfigImpl(int capacity, int consumers, WaitStrategy waitStrategy,
+                            BackpressurePolicy backpressurePolicy) implements RingBufferConfig {
+
+    RingBufferConfigImpl {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 2 and 2^30: " + capacity);
+        }
+        if (consumers < 1) {
+            throw new IllegalArgumentException("consumers must be at least 1: " + consumers);
+        }
+        nonNull(waitStrategy, "waitStrategy");
+        nonNull(backpressurePolicy, "backpressurePolicy");
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new BuilderImpl(this.capacity(), this.consumers(), this.waitStrategy(),
+            this.backpressurePolicy());
+    }
+
+    static final class BuilderImpl implements RingBufferConfig.Builder {
+
+        private int capacity = DEFAULT_CAPACITY;
+        private int consumers = DEFAULT_CONSUMERS;
+        private WaitStrategy waitStrategy = DEFAULT_WAIT_STRATEGY;
+        private BackpressurePolicy backpressurePolicy = DEFAULT_BACKPRESSURE_POLICY;
+
+        BuilderImpl() {
+        }
+
+        private BuilderImpl(final int capacity, final int consumers,
+            final WaitStrategy waitStrategy, final BackpressurePolicy backpressurePolicy) {
+            this.capacity = capacity;
+            this.consumers = consumers;
+            this.waitStrategy = waitStrategy;
+            this.backpressurePolicy = backpressurePolicy;
+        }
+
+        @Override
+        public Builder capacity(final int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        @Override
+        public Builder consumers(final int consumers) {
+            this.consumers = consumers;
+            return this;
+        }
+
+        @Override
+        public Builder waitStrategy(final WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        @Override
+        public Builder backpressurePolicy(final BackpressurePolicy backpressurePolicy) {
+            this.backpressurePolicy = backpressurePolicy;
+            return this;
+        }
+
+        @Override
+        public RingBufferConfig build() {
+            final int capacity = this.capacity < 2 || this.capacity > 1 << 30 ? this.capacity
+                : Integer.highestOneBit(this.capacity - 1) << 1;
+            return new RingBufferConfigImpl(capacity, this.consumers, this.waitStrategy,
+                this.backpressurePolicy);
+        }
+
+    }
+
+}
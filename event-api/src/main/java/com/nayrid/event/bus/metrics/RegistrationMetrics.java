@@ -0,0 +1,54 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.metrics;
+
+import java.util.List;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A snapshot of the metrics of a single event registration of an instrumented bus.
+ *
+ * @param key           the event key
+ * @param published     the number of events of exactly the registration's type published
+ * @param subscriptions the metrics of the registration's subscriptions, in dispatch order
+ * @since 1.0.0
+ */
+@NullMarked
+public record RegistrationMetrics(Key key, long published,
+                                  List<SubscriptionMetrics> subscriptions) {
+
+    /**
+     * Creates a {@link RegistrationMetrics}.
+     *
+     * @param key           the event key
+     * @param published     the number of events of exactly the registration's type published
+     * @param subscriptions the metrics of the registration's subscriptions, in dispatch order
+     * @since 1.0.0
+     */
+    public RegistrationMetrics {
+        subscriptions = List.copyOf(subscriptions);
+    }
+
+}
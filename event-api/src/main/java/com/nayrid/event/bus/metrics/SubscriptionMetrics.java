@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.metrics;
+
+import com.nayrid.event.bus.subscription.EventStage;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A snapshot of the metrics of a single subscription of an instrumented bus.
+ *
+ * <p>The latency histogram has {@value #BUCKETS} buckets of exponentially growing width: bucket
+ * {@code 0} counts invocations that took no measurable time, and bucket {@code i} those taking
+ * from {@code 2^(i-1)} up to {@code 2^i} nanoseconds.</p>
+ *
+ * @param subscriber       the subscriber's class name
+ * @param stage            the subscription's stage
+ * @param priority         the subscription's priority
+ * @param invocations      the number of times the subscriber was called
+ * @param totalNanos       the cumulative time spent in the subscriber, in nanoseconds
+ * @param latencyHistogram the invocation counts per latency bucket
+ * @since 1.0.0
+ */
+@NullMarked
+public record SubscriptionMetrics(String subscriber, EventStage stage, int priority,
+                                  long invocations, long totalNanos, long[] latencyHistogram) {
+
+    /**
+     * The number of latency buckets.
+     *
+     * @since 1.0.0
+     */
+    public static final int BUCKETS = 64;
+
+    /**
+     * Creates a {@link SubscriptionMetrics}.
+     *
+     * @param subscriber       the subscriber's class name
+     * @param stage            the subscription's stage
+     * @param priority         the subscription's priority
+     * @param invocations      the number of times the subscriber was called
+     * @param totalNanos       the cumulative time spent in the subscriber, in nanoseconds
+     * @param latencyHistogram the invocation counts per latency bucket, copied
+     * @since 1.0.0
+     */
+    public SubscriptionMetrics {
+        latencyHistogram = latencyHistogram.clone();
+    }
+
+    /**
+     * Gets the invocation counts per latency bucket.
+     *
+     * @return a copy of the latency histogram
+     * @since 1.0.0
+     */
+    @Override
+    public long[] latencyHistogram() {
+        return this.latencyHistogram.clone();
+    }
+
+    /**
+     * Gets the mean time spent in the subscriber.
+     *
+     * @return the mean latency in nanoseconds, or {@code 0} if it was never called
+     * @since 1.0.0
+     */
+    public double meanNanos() {
+        return this.invocations == 0 ? 0 : (double) this.totalNanos / this.invocations;
+    }
+
+    /**
+     * Gets an upper bound of a latency percentile, at the resolution of the histogram.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the upper bound of the bucket holding the percentile, in nanoseconds
+     * @since 1.0.0
+     */
+    public long percentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: "
+                + percentile);
+        }
+        final long total = this.invocations;
+        long seen = 0;
+        for (int i = 0; i < this.latencyHistogram.length; i++) {
+            seen += this.latencyHistogram[i];
+            if (seen > 0 && seen >= total * percentile / 100) {
+                return i == 0 ? 0 : i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i;
+            }
+        }
+        return 0;
+    }
+
+}
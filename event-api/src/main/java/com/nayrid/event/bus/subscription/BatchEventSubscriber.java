@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.EventBus;
+import com.nayrid.event.bus.EventBus.BatchOrder;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A subscriber that can handle a whole batch of events in a single call.
+ *
+ * <p>Batches are handed over by {@link EventBus#publishAll(Class, List, BatchOrder)} in
+ * {@link BatchOrder#SUBSCRIBER_MAJOR} order. Events published individually are passed on as a
+ * batch of one.</p>
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@FunctionalInterface
+@NullMarked
+public interface BatchEventSubscriber<T extends Event> extends EventSubscriber<T> {
+
+    /**
+     * Ran when a batch of events is published.
+     *
+     * @param events the events being published, in publishing order
+     * @since 1.0.0
+     */
+    void handleAll(List<T> events);
+
+    @Override
+    default void handle(final T event) {
+        this.handleAll(List.of(event));
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import com.nayrid.event.Event;
+import java.util.function.Function;
+import org.jspecify.annotations.NullMarked;
+
+import static com.nayrid.common.Validate.nonNull;
+
+/**
+ * A property of an event, that subscriptions can match on by equality through
+ * {@link SubscriptionOptions.Builder#where(EventProperty, Object)}.
+ *
+ * <p>Subscriptions matching on the same property are indexed by the value they match, so that
+ * publishing only visits the subscriptions whose value equals the event's. Properties are
+ * compared by identity: a property should be created once, typically as a constant, and shared
+ * by every subscription matching on it.</p>
+ *
+ * @param <T> the event type
+ * @param <V> the property type
+ * @since 1.0.0
+ */
+@NullMarked
+public final class EventProperty<T extends Event, V> {
+
+    private final Function<? super T, ? extends V> accessor;
+
+    private EventProperty(final Function<? super T, ? extends V> accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * Creates an {@link EventProperty}.
+     *
+     * @param accessor a function reading the property of an event, which must have no side
+     *                 effects
+     * @param <T>      the event type
+     * @param <V>      the property type
+     * @return a new property
+     * @since 1.0.0
+     */
+    public static <T extends Event, V> EventProperty<T, V> property(
+        final Function<? super T, ? extends V> accessor) {
+        return new EventProperty<>(nonNull(accessor, "accessor"));
+    }
+
+    /**
+     * Reads the property of an event.
+     *
+     * @param event the event
+     * @return the property's value
+     * @since 1.0.0
+     */
+    public V get(final T event) {
+        return this.accessor.apply(event);
+    }
+
+}
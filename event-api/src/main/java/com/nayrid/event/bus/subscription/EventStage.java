@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The stage of the dispatch pipeline a subscription runs in.
+ *
+ * <p>Every subscription of an earlier stage runs before any subscription of a later one,
+ * regardless of priority. Within a stage, subscriptions run in priority order.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public enum EventStage {
+
+    /**
+     * Decides if the event goes on, usually by cancelling it. Once a cancellable event is
+     * cancelled, dispatch skips directly to the next subscription accepting cancelled events.
+     *
+     * @since 1.0.0
+     */
+    FILTER,
+
+    /**
+     * Modifies the event before it is handled.
+     *
+     * @since 1.0.0
+     */
+    TRANSFORM,
+
+    /**
+     * Reacts to the event. The default stage.
+     *
+     * @since 1.0.0
+     */
+    HANDLE
+
+}
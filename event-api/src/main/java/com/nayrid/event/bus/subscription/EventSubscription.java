@@ -24,11 +24,15 @@
 package com.nayrid.event.bus.subscription;
 
 import com.nayrid.event.Event;
+import java.util.function.Predicate;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A prioritized {@link EventSubscriber}.
  *
+ * <p>Subscriptions are ordered by {@link #stage()}, then by {@link #priority()}.</p>
+ *
  * @param <T> the event type
  * @since 1.0.0
  */
@@ -59,4 +63,41 @@ public interface EventSubscription<T extends Event> extends Comparable<EventSubs
      */
     EventSubscriber<T> subscriber();
 
+    /**
+     * Gets the pipeline stage the subscription runs in.
+     *
+     * @return the stage
+     * @since 1.0.0
+     */
+    default EventStage stage() {
+        return EventStage.HANDLE;
+    }
+
+    /**
+     * Gets the predicate an event must match for the subscriber to be called.
+     *
+     * @return the filter, or null if the subscriber is called for every event
+     * @since 1.0.0
+     */
+    default @Nullable Predicate<? super T> filter() {
+        return null;
+    }
+
+    /**
+     * Gets the property match the subscription is indexed by, checked before the subscriber
+     * like the {@link #filter()}.
+     *
+     * @return the match, or null if the subscription is not indexed
+     * @since 1.0.0
+     */
+    default @Nullable PropertyMatch<? super T> match() {
+        return null;
+    }
+
+    @Override
+    default int compareTo(final EventSubscription<?> that) {
+        final int stage = this.stage().compareTo(that.stage());
+        return stage != 0 ? stage : Integer.compare(this.priority(), that.priority());
+    }
+
 }
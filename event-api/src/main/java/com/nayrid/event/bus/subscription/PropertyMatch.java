@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import com.nayrid.event.Event;
+import java.util.Objects;
+import org.jspecify.annotations.NullMarked;
+
+import static com.nayrid.common.Validate.nonNull;
+
+/**
+ * A subscription's requirement that an {@link EventProperty} equals a value.
+ *
+ * @param property the property
+ * @param value    the value the property must equal
+ * @param <T>      the event type
+ * @since 1.0.0
+ */
+@NullMarked
+public record PropertyMatch<T extends Event>(EventProperty<T, ?> property, Object value) {
+
+    /**
+     * Creates a {@link PropertyMatch}.
+     *
+     * @param property the property
+     * @param value    the value the property must equal
+     * @since 1.0.0
+     */
+    public PropertyMatch {
+        nonNull(property, "property");
+        nonNull(value, "value");
+    }
+
+    /**
+     * Gets if an event's property equals this match's value.
+     *
+     * @param event the event
+     * @return if the event matches
+     * @since 1.0.0
+     */
+    public boolean matches(final T event) {
+        return Objects.equals(this.property.get(event), this.value);
+    }
+
+}
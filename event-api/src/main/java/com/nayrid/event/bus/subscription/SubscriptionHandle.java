@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A handle to a single subscription, returned when subscribing.
+ *
+ * <p>Closing the handle removes exactly the subscription it was returned for, without searching
+ * the registration, so subscribers do not need to be kept around or compared by equality to be
+ * removed later.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public interface SubscriptionHandle extends AutoCloseable {
+
+    /**
+     * Gets if the subscription is still registered.
+     *
+     * @return if the subscription is still registered
+     * @since 1.0.0
+     */
+    boolean active();
+
+    /**
+     * Removes the subscription. Closing an inactive handle does nothing.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    void close();
+
+}
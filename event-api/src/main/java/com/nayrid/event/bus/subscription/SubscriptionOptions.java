@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import com.nayrid.common.AbstractBuilder;
+import com.nayrid.common.Buildable;
+import com.nayrid.event.Event;
+import com.nayrid.event.bus.EventBus;
+import com.nayrid.event.bus.subscription.SubscriptionOptionsImpl.BuilderImpl;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Options of a subscription made through
+ * {@link EventBus#subscribe(Class, EventSubscriber, int, boolean, SubscriptionOptions)}.
+ *
+ * @param <T> the event type
+ * @since 1.0.0
+ */
+@NullMarked
+public interface SubscriptionOptions<T extends Event> extends
+    Buildable<SubscriptionOptions<T>, SubscriptionOptions.Builder<T>> {
+
+    /**
+     * Creates a new {@link SubscriptionOptions} builder.
+     *
+     * @param <T> the event type
+     * @return a builder
+     * @since 1.0.0
+     */
+    @Contract(value = "-> new", pure = true)
+    static <T extends Event> SubscriptionOptions.Builder<T> subscriptionOptions() {
+        return new BuilderImpl<>();
+    }
+
+    /**
+     * Gets the default options, subscribing in the {@link EventStage#HANDLE} stage without a
+     * filter, referencing the subscriber strongly.
+     *
+     * @param <T> the event type
+     * @return the default options
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Event> SubscriptionOptions<T> defaults() {
+        return (SubscriptionOptions<T>) SubscriptionOptionsImpl.DEFAULTS;
+    }
+
+    /**
+     * Gets the pipeline stage the subscription runs in.
+     *
+     * @return the stage
+     * @since 1.0.0
+     */
+    EventStage stage();
+
+    /**
+     * Gets the predicate an event must match for the subscriber to be called. It is evaluated
+     * on the dispatching thread, before the subscriber.
+     *
+     * @return the filter, or null if the subscriber is called for every event
+     * @since 1.0.0
+     */
+    @Nullable Predicate<? super T> filter();
+
+    /**
+     * Gets the property match the subscription is indexed by.
+     *
+     * @return the match, or null if the subscription is not indexed
+     * @since 1.0.0
+     */
+    @Nullable PropertyMatch<? super T> match();
+
+    /**
+     * Gets if the bus only references the subscriber weakly.
+     *
+     * <p>A weak subscription ends once its subscriber is garbage collected, so that an object
+     * owning a subscriber is not kept alive by the bus. Whoever subscribes must keep the
+     * subscriber strongly reachable for as long as it should receive events, typically from a
+     * field of its owner. Subscribing a lambda that nothing else references ends the subscription
+     * on the next collection.</p>
+     *
+     * @return if the subscriber is referenced weakly
+     * @since 1.0.0
+     */
+    boolean weak();
+
+    /**
+     * A {@link SubscriptionOptions} builder.
+     *
+     * @param <T> the event type
+     * @since 1.0.0
+     */
+    interface Builder<T extends Event> extends AbstractBuilder<SubscriptionOptions<T>> {
+
+        EventStage DEFAULT_STAGE = EventStage.HANDLE;
+
+        /**
+         * Sets the pipeline stage the subscription runs in.
+         *
+         * @param stage the stage
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> stage(EventStage stage);
+
+        /**
+         * Sets the predicate an event must match for the subscriber to be called. Setting a
+         * filter again requires events to match both.
+         *
+         * @param filter the filter
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> filter(Predicate<? super T> filter);
+
+        /**
+         * Requires a property of events to equal a value for the subscriber to be called.
+         *
+         * <p>Unlike a {@link #filter(Predicate)}, the subscription is indexed by the value, so
+         * that publishing an event does not visit it at all unless the event's property equals
+         * the value. Only the first property of a subscription is indexed, further ones are
+         * evaluated as filters.</p>
+         *
+         * @param property the property
+         * @param value    the value the property must equal
+         * @param <V>      the property type
+         * @return this builder
+         * @since 1.0.0
+         */
+        @Contract(value = "_, _ -> this", mutates = "this")
+        <V> Builder<T> where(EventProperty<? super T, V> property, V value);
+
+        /**
+         * Sets if the bus only references the subscriber weakly.
+         *
+         * @param weak if the subscriber is referenced weakly
+         * @return this builder
+         * @see SubscriptionOptions#weak()
+         * @since 1.0.0
+         */
+        @Contract(value = "_ -> this", mutates = "this")
+        Builder<T> weak(boolean weak);
+
+    }
+
+}
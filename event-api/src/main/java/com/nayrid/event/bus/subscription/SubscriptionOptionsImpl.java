@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import com.nayrid.event.Event;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import static com.nayrid.common.Validate.nonNull;
+
+@NullMarked
+record SubscriptionOptionsImpl<T extends Event>(EventStage stage,
+                                                @Nullable Predicate<? super T> filter,
+                                                @Nullable PropertyMatch<? super T> match,
+                                                boolean weak)
+    implements SubscriptionOptions<T> {
+
+    static final SubscriptionOptions<?> DEFAULTS = new SubscriptionOptionsImpl<>(
+        Builder.DEFAULT_STAGE, null, null, false);
+
+    SubscriptionOptionsImpl {
+        nonNull(stage, "stage");
+    }
+
+    @Override
+    public Builder<T> toBuilder() {
+        return new BuilderImpl<>(this.stage(), this.filter(), this.match(), this.weak());
+    }
+
+    static final class BuilderImpl<T extends Event> implements SubscriptionOptions.Builder<T> {
+
+        private EventStage stage = DEFAULT_STAGE;
+        private @Nullable Predicate<? super T> filter;
+        private @Nullable PropertyMatch<? super T> match;
+        private boolean weak;
+
+        BuilderImpl() {
+        }
+
+        private BuilderImpl(final EventStage stage, final @Nullable Predicate<? super T> filter,
+            final @Nullable PropertyMatch<? super T> match, final boolean weak) {
+            this.stage = stage;
+            this.filter = filter;
+            this.match = match;
+            this.weak = weak;
+        }
+
+        @Override
+        public Builder<T> stage(final EventStage stage) {
+            this.stage = nonNull(stage, "stage");
+            return this;
+        }
+
+        @Override
+        public Builder<T> filter(final Predicate<? super T> filter) {
+            nonNull(filter, "filter");
+            final Predicate<? super T> previous = this.filter;
+            this.filter = previous == null ? filter
+                : event -> previous.test(event) && filter.test(event);
+            return this;
+        }
+
+        @Override
+        public <V> Builder<T> where(final EventProperty<? super T, V> property, final V value) {
+            final PropertyMatch<? super T> match = new PropertyMatch<>(property, value);
+            if (this.match == null) {
+                this.match = match;
+                return this;
+            }
+            return this.filter(match::matches);
+        }
+
+        @Override
+        public Builder<T> weak(final boolean weak) {
+            this.weak = weak;
+            return this;
+        }
+
+        @Override
+        public SubscriptionOptions<T> build() {
+            return new SubscriptionOptionsImpl<>(this.stage, this.filter, this.match, this.weak);
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * An owner of subscription handles, closing all of them at once.
+ *
+ * <p>A scope is typically tied to the lifecycle of a component, so that all of the component's
+ * subscriptions are torn down together when it goes away.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public interface SubscriptionScope extends AutoCloseable {
+
+    /**
+     * Creates a {@link SubscriptionScope}.
+     *
+     * @return a new subscription scope
+     * @since 1.0.0
+     */
+    static SubscriptionScope create() {
+        return new SubscriptionScopeImpl();
+    }
+
+    /**
+     * Adds a handle to this scope. If this scope is already closed, the handle is closed
+     * immediately.
+     *
+     * @param handle the handle
+     * @param <H>    the handle type
+     * @return the handle
+     * @since 1.0.0
+     */
+    <H extends SubscriptionHandle> H add(H handle);
+
+    /**
+     * Gets if this scope was closed.
+     *
+     * @return if this scope was closed
+     * @since 1.0.0
+     */
+    boolean closed();
+
+    /**
+     * Closes every handle added to this scope.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    void close();
+
+}
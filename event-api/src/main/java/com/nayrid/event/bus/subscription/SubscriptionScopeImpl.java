@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus.subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+import static com.nayrid.common.Validate.nonNull;
+
+@NullMarked
+final class SubscriptionScopeImpl implements SubscriptionScope {
+
+    private List<SubscriptionHandle> handles = new ArrayList<>();
+    private boolean closed;
+
+    @Override
+    public <H extends SubscriptionHandle> H add(final H handle) {
+        nonNull(handle, "handle");
+        synchronized (this) {
+            if (!this.closed) {
+                // handles closed on their own are dropped here rather than piling up
+                if (this.handles.size() >= 64 && this.handles.size() % 64 == 0) {
+                    this.handles.removeIf(existing -> !existing.active());
+                }
+                this.handles.add(handle);
+                return handle;
+            }
+        }
+        handle.close();
+        return handle;
+    }
+
+    @Override
+    public synchronized boolean closed() {
+        return this.closed;
+    }
+
+    @Override
+    public void close() {
+        final List<SubscriptionHandle> handles;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            handles = this.handles;
+            this.handles = List.of();
+        }
+        for (final SubscriptionHandle handle : handles) {
+            handle.close();
+        }
+    }
+
+}
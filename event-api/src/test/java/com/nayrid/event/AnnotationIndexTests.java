@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.annotation.AnnoKey;
+import com.nayrid.event.annotation.AnnotationIndex;
+import com.nayrid.event.annotation.Subscribe;
+import com.nayrid.event.bus.EventBus.EventRegistration;
+import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Tests against the {@link AnnotationIndex} in this module's test resources. Its entries differ
+ * from the annotations of the indexed classes, so that the tests can tell which one was used.
+ */
+@NullMarked
+public class AnnotationIndexTests {
+
+    private SimpleEventBus bus;
+
+    @BeforeEach
+    public void setup() {
+        this.bus = SimpleEventBus.create(EventBusConfig.eventBusConfig().build());
+    }
+
+    @Test
+    public void testKeysResolveFromIndex() {
+        assertEquals(Key.key(SimpleEventBusTests.NAMESPACE, "indexed"),
+            AnnotationIndex.of(IndexedEvent.class).key(IndexedEvent.class));
+        assertEquals(Key.key(SimpleEventBusTests.NAMESPACE, "indexed"),
+            this.bus.getOrCreateRegistration(IndexedEvent.class).key(),
+            "The indexed key should be used over the annotation");
+    }
+
+    @Test
+    public void testListenersResolveFromIndex() {
+        final IndexedListener listener = new IndexedListener();
+        this.bus.register(listener);
+        this.bus.publish(new IndexedEvent());
+        assertEquals(List.of("indexed"), listener.handled,
+            "Indexed methods should be subscribed without a @Subscribe annotation");
+
+        final EventRegistration<IndexedEvent> registration = this.bus.get(IndexedEvent.class);
+        assertNotNull(registration, "Registering should create the registration");
+        assertEquals(7, registration.subscribers().getFirst().priority(),
+            "The indexed priority should be used");
+    }
+
+    @Test
+    public void testStaleIndexFallsBackToScanning() {
+        final StaleListener listener = new StaleListener();
+        this.bus.register(listener);
+        this.bus.publish(new IndexedEvent());
+        assertEquals(List.of("scanned"), listener.handled,
+            "Listeners whose indexed methods do not exist should be scanned");
+    }
+
+    @AnnoKey(namespace = SimpleEventBusTests.NAMESPACE, value = "annotated")
+    public static final class IndexedEvent implements Event {
+
+    }
+
+    public static final class IndexedListener {
+
+        final List<String> handled = new ArrayList<>();
+
+        public void onEvent(final IndexedEvent event) {
+            this.handled.add("indexed");
+        }
+
+    }
+
+    public static final class StaleListener {
+
+        final List<String> handled = new ArrayList<>();
+
+        @Subscribe
+        public void onEvent(final IndexedEvent event) {
+            this.handled.add("scanned");
+        }
+
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.RingBufferEventBusTests.TickEvent;
+import com.nayrid.event.SimpleEventBusTests.IntegerEvent;
+import com.nayrid.event.bus.AsyncEventBus;
+import com.nayrid.event.bus.AsyncEventBus.ExecutionMode;
+import com.nayrid.event.bus.EventBus.BatchOrder;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@NullMarked
+public class AsyncEventBusTests {
+
+    private AsyncEventBus bus;
+
+    @BeforeEach
+    public void setup() {
+        this.bus = AsyncEventBus.create(EventBusConfig.eventBusConfig().build());
+    }
+
+    @Test
+    public void testPublishAsyncCompletesAfterAllSubscribers() {
+        final AtomicInteger handled = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            this.bus.subscribe(IntegerEvent.class, event -> handled.incrementAndGet());
+        }
+        final IntegerEvent event = new IntegerEvent(0);
+
+        assertSame(event, this.bus.publishAsync(event).join());
+        assertEquals(10, handled.get(), "Every subscriber should have run");
+    }
+
+    @Test
+    public void testSameThreadSubscribersRunOnPublishingThread() throws InterruptedException {
+        final Thread publisher = Thread.currentThread();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        this.bus.subscribe(IntegerEvent.class, event -> threads.add(Thread.currentThread()), 0,
+            false, ExecutionMode.SAME_THREAD);
+        this.bus.subscribe(IntegerEvent.class, event -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }, 1, false, ExecutionMode.VIRTUAL_THREAD);
+
+        this.bus.publish((Event) new IntegerEvent(0));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Virtual thread subscriber should have run");
+        assertSame(publisher, threads.get(0));
+        assertNotEquals(publisher, threads.get(1));
+    }
+
+    @Test
+    public void testCancellableEventsKeepPriorityOrder() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            this.bus.subscribe(IntegerEvent.class, event -> event.cancelled(true), 0, false,
+                executor);
+            this.bus.subscribe(IntegerEvent.class, IntegerEvent::increment, 1, false,
+                ExecutionMode.VIRTUAL_THREAD);
+            this.bus.subscribe(IntegerEvent.class, IntegerEvent::increment, 2, true,
+                ExecutionMode.VIRTUAL_THREAD);
+
+            final IntegerEvent event = new IntegerEvent(0);
+            assertFalse(this.bus.publish(event), "Event should have been cancelled");
+            assertEquals(1, event.get(), "Only the subscriber accepting cancelled events should run");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAsyncSubscribersOfCancellableEventsAreAwaitedInOrder() {
+        final List<String> handled = new CopyOnWriteArrayList<>();
+        this.bus.subscribe(IntegerEvent.class, event -> {
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            handled.add("slow " + event.get());
+        }, 0, false, ExecutionMode.VIRTUAL_THREAD);
+        this.bus.subscribe(IntegerEvent.class, event -> handled.add("next " + event.get()), 1,
+            false, ExecutionMode.SAME_THREAD);
+        this.bus.subscribe(IntegerEvent.class, event -> handled.add("last " + event.get()), 2,
+            false, ExecutionMode.VIRTUAL_THREAD);
+
+        assertTrue(this.bus.publish(new IntegerEvent(0)));
+        this.bus.publishAsync(new IntegerEvent(1)).join();
+        this.bus.publishAll(IntegerEvent.class, List.of(new IntegerEvent(2)),
+            BatchOrder.SUBSCRIBER_MAJOR);
+
+        assertEquals(List.of("slow 0", "next 0", "last 0", "slow 1", "next 1", "last 1",
+                "slow 2", "next 2", "last 2"), handled,
+            "Each async subscriber should be awaited before the next subscriber runs");
+    }
+
+    @Test
+    public void testPooledEventsAreReleasedOnceScheduledSubscribersRan()
+        throws InterruptedException {
+        this.bus.pool(TickEvent.class, PoolingConfig.<TickEvent>poolingConfig()
+            .factory(TickEvent::new)
+            .build());
+        final CountDownLatch release = new CountDownLatch(1);
+        this.bus.subscribe(TickEvent.class, event -> {
+            try {
+                release.await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        final TickEvent event = this.bus.acquire(TickEvent.class);
+        try {
+            this.bus.publish(event);
+            assertNotSame(event, this.bus.acquire(TickEvent.class),
+                "Events should not be released while scheduled subscribers still run");
+        } finally {
+            release.countDown();
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (this.bus.acquire(TickEvent.class) != event) {
+            if (System.nanoTime() > deadline) {
+                fail("Events should be released once every scheduled subscriber ran");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testUnawaitedSubscriberFailuresAreReported() throws InterruptedException {
+        final List<Throwable> reported = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Executor executor = task -> {
+            final Thread thread = new Thread(task);
+            thread.setUncaughtExceptionHandler((failed, throwable) -> {
+                reported.add(throwable);
+                latch.countDown();
+            });
+            thread.start();
+        };
+        this.bus.subscribe(TickEvent.class, event -> {
+            throw new IllegalStateException("unawaited");
+        }, 0, false, executor);
+
+        this.bus.publish(new TickEvent());
+        assertTrue(latch.await(5, TimeUnit.SECONDS),
+            "Failures nothing awaits should be handed to the uncaught exception handler");
+        assertEquals("unawaited", reported.get(0).getMessage());
+    }
+
+}
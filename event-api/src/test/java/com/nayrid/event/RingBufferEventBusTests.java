@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.SimpleEventBusTests.IntegerEvent;
+import com.nayrid.event.annotation.AnnoKey;
+import com.nayrid.event.bus.RingBufferEventBus;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.config.RingBufferConfig;
+import com.nayrid.event.bus.config.RingBufferConfig.BackpressurePolicy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@NullMarked
+public class RingBufferEventBusTests {
+
+    @Test
+    public void testEventsAreDrainedByConsumers() throws InterruptedException {
+        final AtomicInteger handled = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(10_000);
+        try (RingBufferEventBus bus = RingBufferEventBus.create(
+            EventBusConfig.eventBusConfig().build(),
+            RingBufferConfig.ringBufferConfig().capacity(64).consumers(2).build())) {
+            bus.subscribe(TickEvent.class, event -> {
+                handled.incrementAndGet();
+                latch.countDown();
+            });
+            for (int i = 0; i < 10_000; i++) {
+                bus.publish(new TickEvent());
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "All events should have been handled");
+        }
+        assertEquals(10_000, handled.get());
+    }
+
+    @Test
+    public void testDropPolicyDiscardsEventsWhenFull() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        try (RingBufferEventBus bus = RingBufferEventBus.create(
+            EventBusConfig.eventBusConfig().build(),
+            RingBufferConfig.ringBufferConfig()
+                .capacity(4)
+                .backpressurePolicy(BackpressurePolicy.DROP)
+                .build())) {
+            bus.subscribe(TickEvent.class, event -> {
+                try {
+                    release.await();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 100; i++) {
+                bus.publish(new TickEvent());
+            }
+            assertTrue(bus.dropped() > 0, "Events should have been dropped");
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testDroppedPooledEventsAreReleased() {
+        for (final BackpressurePolicy policy : List.of(BackpressurePolicy.DROP,
+            BackpressurePolicy.DROP_OLDEST)) {
+            final CountDownLatch release = new CountDownLatch(1);
+            try (RingBufferEventBus bus = RingBufferEventBus.create(
+                EventBusConfig.eventBusConfig().build(),
+                RingBufferConfig.ringBufferConfig()
+                    .capacity(4)
+                    .consumers(1)
+                    .backpressurePolicy(policy)
+                    .build())) {
+                bus.pool(TickEvent.class, PoolingConfig.<TickEvent>poolingConfig()
+                    .factory(TickEvent::new)
+                    .capacity(128)
+                    .build());
+                bus.subscribe(TickEvent.class, event -> {
+                    try {
+                        release.await();
+                    } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                final Set<TickEvent> published = Collections.newSetFromMap(
+                    new IdentityHashMap<>());
+                try {
+                    for (int i = 0; i < 100; i++) {
+                        final TickEvent event = bus.acquire(TickEvent.class);
+                        published.add(event);
+                        bus.publish(event);
+                    }
+                    assertTrue(bus.dropped() > 0, "Events should have been dropped");
+                    assertTrue(published.contains(bus.acquire(TickEvent.class)),
+                        "Dropped events should be released into the pool under " + policy);
+                } finally {
+                    release.countDown();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCloseDispatchesEveryAcceptedEvent() throws InterruptedException {
+        final AtomicInteger handled = new AtomicInteger();
+        final AtomicInteger accepted = new AtomicInteger();
+        final List<Thread> publishers = new ArrayList<>();
+        try (RingBufferEventBus bus = RingBufferEventBus.create(
+            EventBusConfig.eventBusConfig().build(),
+            RingBufferConfig.ringBufferConfig()
+                .capacity(64)
+                .consumers(2)
+                .backpressurePolicy(BackpressurePolicy.BLOCK)
+                .build())) {
+            bus.subscribe(TickEvent.class, event -> handled.incrementAndGet());
+            for (int i = 0; i < 4; i++) {
+                publishers.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        while (true) {
+                            bus.publish(new TickEvent());
+                            accepted.incrementAndGet();
+                        }
+                    } catch (final IllegalStateException exception) {
+                        // closed
+                    }
+                }));
+            }
+            Thread.sleep(50);
+        }
+        for (final Thread publisher : publishers) {
+            publisher.join();
+        }
+        assertEquals(accepted.get(), handled.get(),
+            "Every event accepted before the close should have been dispatched");
+    }
+
+    @Test
+    public void testCancellableEventsAreDispatchedSynchronously() {
+        try (RingBufferEventBus bus = RingBufferEventBus.create(
+            EventBusConfig.eventBusConfig().build(), RingBufferConfig.ringBufferConfig().build())) {
+            bus.subscribe(IntegerEvent.class, event -> event.cancelled(true));
+            assertFalse(bus.publish(new IntegerEvent(0)), "Event should have been cancelled");
+
+            final IntegerEvent event = new IntegerEvent(0);
+            bus.publish((Event) event);
+            assertTrue(event.cancelled(),
+                "Cancellable events published as plain events should be dispatched too");
+            final IntegerEvent supplied = new IntegerEvent(0);
+            bus.publish(IntegerEvent.class, () -> supplied);
+            assertTrue(supplied.cancelled(),
+                "Supplied cancellable events should be dispatched on the calling thread");
+        }
+    }
+
+    @Test
+    public void testPooledEventsAreReusedByPublishers() throws InterruptedException {
+        try (RingBufferEventBus bus = RingBufferEventBus.create(
+            EventBusConfig.eventBusConfig().build(),
+            RingBufferConfig.ringBufferConfig().consumers(1).build())) {
+            bus.pool(TickEvent.class, PoolingConfig.<TickEvent>poolingConfig()
+                .factory(TickEvent::new)
+                .build());
+            final CountDownLatch handled = new CountDownLatch(1);
+            bus.subscribe(TickEvent.class, event -> handled.countDown());
+
+            final TickEvent first = bus.acquire(TickEvent.class);
+            bus.publish(first);
+            assertTrue(handled.await(10, TimeUnit.SECONDS), "The event should have been handled");
+            // released by the consumer once its subscribers returned
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (bus.acquire(TickEvent.class) != first) {
+                assertTrue(System.nanoTime() < deadline,
+                    "Events released by consumers should be acquired by publishers");
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    @Test
+    public void testCancellationIsReadBeforePooledEventsAreReleased() {
+        try (RingBufferEventBus bus = RingBufferEventBus.create(
+            EventBusConfig.eventBusConfig().build(), RingBufferConfig.ringBufferConfig().build())) {
+            bus.pool(IntegerEvent.class, PoolingConfig.<IntegerEvent>poolingConfig()
+                .factory(() -> new IntegerEvent(0))
+                .reset(event -> {
+                    event.reset();
+                    event.cancelled(false);
+                })
+                .build());
+            bus.subscribe(IntegerEvent.class, event -> event.cancelled(true));
+
+            final IntegerEvent event = bus.acquire(IntegerEvent.class);
+            assertFalse(bus.publish(event), "Event should have been cancelled");
+            assertSame(event, bus.acquire(IntegerEvent.class),
+                "The event should have been released once dispatched");
+        }
+    }
+
+    @AnnoKey(namespace = SimpleEventBusTests.NAMESPACE, value = "tick")
+    public static final class TickEvent implements Event {
+
+    }
+
+}
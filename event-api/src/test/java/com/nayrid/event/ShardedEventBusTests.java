@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event;
+
+import com.nayrid.event.SimpleEventBusTests.IntegerEvent;
+import com.nayrid.event.bus.ShardedEventBus;
+import com.nayrid.event.bus.ShardedEventBus.Shard;
+import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.PoolingConfig;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@NullMarked
+public class ShardedEventBusTests {
+
+    @Test
+    public void testPublishesStayOnTheirShard() {
+        final ShardedEventBus bus = ShardedEventBus.create(EventBusConfig.eventBusConfig().build(),
+            2);
+        final List<Integer> first = new ArrayList<>();
+        final List<Integer> second = new ArrayList<>();
+        bus.shard(0).subscribe(IntegerEvent.class, event -> first.add(event.get()));
+        bus.shard(1).subscribe(IntegerEvent.class, event -> second.add(event.get()));
+
+        bus.shard(0).publish(new IntegerEvent(1));
+        assertEquals(List.of(1), first);
+        assertTrue(second.isEmpty(), "Other shards should not see local publishes");
+    }
+
+    @Test
+    public void testRoutedEventsArePublishedWhenDrained() throws InterruptedException {
+        final ShardedEventBus bus = ShardedEventBus.create(EventBusConfig.eventBusConfig().build(),
+            4);
+        final Shard target = bus.shard(3);
+        final List<Integer> received = new ArrayList<>();
+        target.subscribe(IntegerEvent.class, event -> received.add(event.get()));
+
+        final List<Thread> producers = new ArrayList<>();
+        for (int shard = 0; shard < 3; shard++) {
+            final Shard source = bus.shard(shard);
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    source.route(target.id(), new IntegerEvent(i));
+                }
+            }));
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(received.isEmpty(), "Routed events should wait for a drain");
+
+        assertEquals(10, target.drain(10), "Drains should be bounded");
+        assertEquals(2_990, target.drain(), "Every routed event should be drained");
+        assertEquals(3_000, received.size());
+        assertEquals(0, target.drain(), "A drained shard should be empty");
+    }
+
+    @Test
+    public void testRoutedPooledEventsAreReusedByTheRoutingThread() throws InterruptedException {
+        final ShardedEventBus bus = ShardedEventBus.create(EventBusConfig.eventBusConfig().build(),
+            2);
+        final Shard target = bus.shard(1);
+        target.pool(IntegerEvent.class, PoolingConfig.<IntegerEvent>poolingConfig()
+            .factory(() -> new IntegerEvent(0))
+            .reset(IntegerEvent::reset)
+            .build());
+        final List<Integer> received = new ArrayList<>();
+        target.subscribe(IntegerEvent.class, event -> received.add(event.get()));
+
+        final List<IntegerEvent> acquired = new ArrayList<>();
+        final Runnable route = () -> {
+            final IntegerEvent event = target.acquire(IntegerEvent.class);
+            event.increment();
+            acquired.add(event);
+            bus.route(target.id(), event);
+        };
+        final Thread router = Thread.ofPlatform().start(route);
+        router.join();
+        assertEquals(1, target.drain());
+
+        final Thread reusing = Thread.ofPlatform().start(route);
+        reusing.join();
+        assertEquals(1, target.drain());
+        assertEquals(List.of(1, 1), received);
+        assertSame(acquired.get(0), acquired.get(1),
+            "Events released by the draining thread should be acquired by routing threads");
+    }
+
+}
@@ -24,10 +24,39 @@
 package com.nayrid.event;
 
 import com.nayrid.event.annotation.AnnoKey;
+import com.nayrid.event.annotation.Subscribe;
+import com.nayrid.event.bus.EventBus.BatchOrder;
+import com.nayrid.event.bus.EventBus.EventRegistration;
+import com.nayrid.event.bus.EventDispatchException;
 import com.nayrid.event.bus.SimpleEventBus;
+import com.nayrid.event.bus.config.CoalescingConfig;
 import com.nayrid.event.bus.config.EventBusConfig;
+import com.nayrid.event.bus.config.EventBusConfig.ErrorPolicy;
+import com.nayrid.event.bus.config.PoolingConfig;
+import com.nayrid.event.bus.metrics.RegistrationMetrics;
+import com.nayrid.event.bus.metrics.SubscriptionMetrics;
+import com.nayrid.event.bus.subscription.BatchEventSubscriber;
+import com.nayrid.event.bus.subscription.EventProperty;
+import com.nayrid.event.bus.subscription.EventStage;
 import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.SubscriptionHandle;
+import com.nayrid.event.bus.subscription.SubscriptionOptions;
+import com.nayrid.event.bus.subscription.SubscriptionScope;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import net.kyori.adventure.key.KeyPattern.Namespace;
 import org.jspecify.annotations.NullMarked;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +65,11 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -104,6 +138,630 @@ public class SimpleEventBusTests {
             "Publishing the event via its publish() method should not throw an exception");
     }
 
+    @Test
+    public void testSupertypeSubscribersReceiveEvents() {
+        final List<String> order = new ArrayList<>();
+        this.bus.subscribe(Event.class, event -> order.add("event"), 2);
+        this.bus.subscribe(IntegerEvent.class, event -> order.add("integer"), 1);
+
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(List.of("integer", "event"), order,
+            "Supertype subscribers should be merged by priority");
+
+        this.bus.subscribe(CancellableEvent.class, event -> order.add("cancellable"), 0);
+        order.clear();
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(List.of("cancellable", "integer", "event"), order,
+            "Subscribing after a publish should be picked up by the next publish");
+    }
+
+    @Test
+    public void testPublishAllSubscriberMajor() {
+        final List<String> order = new ArrayList<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+        this.bus.subscribe(IntegerEvent.class, event -> {
+            order.add("cancel " + event.get());
+            event.cancelled(event.get() == 1);
+        }, 0);
+        this.bus.subscribe(IntegerEvent.class, (BatchEventSubscriber<IntegerEvent>) events -> {
+            order.add("batch");
+            batchSizes.add(events.size());
+        }, 1, false);
+
+        this.bus.publishAll(IntegerEvent.class,
+            List.of(new IntegerEvent(0), new IntegerEvent(1), new IntegerEvent(2)),
+            BatchOrder.SUBSCRIBER_MAJOR);
+
+        assertEquals(List.of("cancel 0", "cancel 1", "cancel 2", "batch"), order);
+        assertEquals(List.of(2), batchSizes, "Cancelled events should be left out of the batch");
+    }
+
+    @Test
+    public void testBatchAppliesAllChanges() {
+        final List<Integer> received = new ArrayList<>();
+        final EventSubscriber<IntegerEvent> removed = event -> fail("Subscriber was unsubscribed");
+        this.bus.subscribe(IntegerEvent.class, removed);
+
+        this.bus.batch(transaction -> {
+            transaction.unsubscribe(IntegerEvent.class, removed);
+            transaction.subscribe(IntegerEvent.class, event -> received.add(event.get()), 1);
+            transaction.subscribe(IntegerEvent.class, event -> received.add(-event.get()), 0);
+        });
+
+        this.bus.publish(new IntegerEvent(3));
+        assertEquals(List.of(-3, 3), received);
+    }
+
+    @Test
+    public void testSubscriptionHandlesAndScopes() {
+        final List<String> received = new ArrayList<>();
+        final SubscriptionScope scope = SubscriptionScope.create();
+        final SubscriptionHandle handle = this.bus.subscribe(IntegerEvent.class,
+            event -> received.add("handle"));
+        scope.add(this.bus.subscribe(IntegerEvent.class, event -> received.add("scope")));
+        scope.add(this.bus.subscribe(IntegerEvent.class, event -> received.add("scope")));
+
+        handle.close();
+        assertFalse(handle.active());
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(List.of("scope", "scope"), received);
+
+        scope.close();
+        assertTrue(scope.closed());
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(2, received.size(), "Closing the scope should remove all of its handles");
+
+        final SubscriptionHandle late = scope.add(this.bus.subscribe(IntegerEvent.class,
+            event -> fail("Handle added to a closed scope should be closed")));
+        assertFalse(late.active());
+        this.bus.publish(new IntegerEvent(0));
+    }
+
+    @Test
+    public void testRegisterAnnotatedListener() {
+        final IntegerListener listener = new IntegerListener();
+        final SubscriptionScope scope = this.bus.register(listener);
+        this.bus.register(new IntegerListener()).close();
+
+        this.bus.publish(new IntegerEvent(5));
+        assertEquals(List.of("cancel 5", "event 5"), listener.received);
+
+        scope.close();
+        this.bus.publish(new IntegerEvent(6));
+        assertEquals(2, listener.received.size(), "Closed listener should not receive events");
+    }
+
+    @Test
+    public void testPipelineStagesAndFilters() {
+        final List<String> order = new ArrayList<>();
+        this.bus.subscribe(IntegerEvent.class, event -> order.add("handle " + event.get()), -1,
+            false);
+        this.bus.subscribe(IntegerEvent.class, event -> order.add("cancelled " + event.get()), 1,
+            true);
+        this.bus.subscribe(IntegerEvent.class, IntegerEvent::increment, 0, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .stage(EventStage.TRANSFORM)
+                .build());
+        this.bus.subscribe(IntegerEvent.class, event -> event.cancelled(true), 0, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .stage(EventStage.FILTER)
+                .filter(event -> event.get() < 0)
+                .build());
+
+        this.bus.publish(new IntegerEvent(1));
+        assertEquals(List.of("handle 2", "cancelled 2"), order,
+            "Stages should run before priorities");
+
+        order.clear();
+        this.bus.publish(new IntegerEvent(-1));
+        assertEquals(List.of("cancelled -1"), order,
+            "A cancelled event should skip to the subscribers accepting it");
+    }
+
+    @Test
+    public void testIndexedPropertyMatches() {
+        final EventProperty<IntegerEvent, Integer> value = EventProperty.property(IntegerEvent::get);
+        final List<String> received = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int zone = i;
+            this.bus.subscribe(IntegerEvent.class, event -> received.add("zone " + zone), zone,
+                false, SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                    .where(value, zone)
+                    .build());
+        }
+        this.bus.subscribe(IntegerEvent.class, event -> received.add("all"), 50);
+
+        this.bus.publish(new IntegerEvent(7));
+        assertEquals(List.of("zone 7", "all"), received);
+
+        received.clear();
+        this.bus.publishAll(IntegerEvent.class, List.of(new IntegerEvent(70)),
+            BatchOrder.SUBSCRIBER_MAJOR);
+        assertEquals(List.of("all", "zone 70"), received,
+            "Batches should only be delivered to matching subscribers too");
+    }
+
+    @Test
+    public void testUnmatchedIndexedEventsAreDeadLetters() {
+        final List<Event> deadLetters = new ArrayList<>();
+        final SimpleEventBus bus = SimpleEventBus.create(EventBusConfig.eventBusConfig()
+            .deadLetters(deadLetters::add)
+            .build());
+        final EventProperty<IntegerEvent, Integer> value = EventProperty.property(
+            IntegerEvent::get);
+        final List<String> received = new ArrayList<>();
+        bus.subscribe(IntegerEvent.class, event -> received.add("one"), 0, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .where(value, 1)
+                .build());
+        bus.subscribe(IntegerEvent.class, event -> received.add("two"), 0, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .where(value, 2)
+                .filter(event -> !event.cancelled())
+                .build());
+
+        final IntegerEvent unmatched = new IntegerEvent(7);
+        bus.publish(unmatched);
+        assertEquals(List.of(unmatched), deadLetters,
+            "Events no property match equals should be dead letters");
+
+        final IntegerEvent filtered = new IntegerEvent(2);
+        filtered.cancelled(true);
+        bus.publish(filtered);
+        assertEquals(List.of(unmatched, filtered), deadLetters,
+            "Matched events every subscriber skips should be dead letters");
+
+        bus.publish(new IntegerEvent(1));
+        assertEquals(List.of("one"), received);
+        assertEquals(2, deadLetters.size(), "Received events should not be dead letters");
+
+        // more properties than the unallocated merge handles
+        final EventProperty<IntegerEvent, Integer> negated = EventProperty.property(
+            event -> -event.get());
+        final EventProperty<IntegerEvent, Boolean> even = EventProperty.property(
+            event -> event.get() % 2 == 0);
+        bus.subscribe(IntegerEvent.class, event -> received.add("negated"), 1, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .where(negated, -3)
+                .build());
+        bus.subscribe(IntegerEvent.class, event -> received.add("odd"), 2, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .where(even, false)
+                .build());
+        received.clear();
+        bus.publish(new IntegerEvent(3));
+        assertEquals(List.of("negated", "odd"), received);
+        bus.publish(new IntegerEvent(8));
+        assertEquals(3, deadLetters.size(),
+            "Events no property match equals should be dead letters with many properties");
+    }
+
+    @Test
+    public void testFilteredEventsAreDeadLetters() {
+        for (final ErrorPolicy policy : ErrorPolicy.values()) {
+            final List<Event> deadLetters = new ArrayList<>();
+            final SimpleEventBus bus = SimpleEventBus.create(EventBusConfig.eventBusConfig()
+                .errorPolicy(policy)
+                .deadLetters(deadLetters::add)
+                .build());
+            final List<Integer> received = new ArrayList<>();
+            bus.subscribe(IntegerEvent.class, event -> received.add(event.get()), 0, false,
+                SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                    .filter(event -> event.get() > 0)
+                    .build());
+
+            final IntegerEvent filtered = new IntegerEvent(-1);
+            bus.publish(filtered);
+            bus.publish(new IntegerEvent(1));
+            final IntegerEvent cancelled = new IntegerEvent(2);
+            cancelled.cancelled(true);
+            bus.publish(cancelled);
+            assertEquals(List.of(1), received);
+            assertEquals(List.of(filtered, cancelled), deadLetters,
+                "Events every filter and cancellation skipped should be dead letters under "
+                    + policy);
+
+            // a subscriber receiving everything makes tracking unnecessary
+            bus.subscribe(IntegerEvent.class, event -> received.add(0), 1, true);
+            bus.publish(new IntegerEvent(-1));
+            assertEquals(2, deadLetters.size(), "Received events should not be dead letters");
+        }
+    }
+
+    @Test
+    public void testCoalescedEventsAreMergedUntilFlushed() throws InterruptedException {
+        final List<PositionEvent> received = new ArrayList<>();
+        this.bus.subscribe(PositionEvent.class, received::add);
+        this.bus.coalesce(PositionEvent.class, CoalescingConfig.<PositionEvent>coalescingConfig()
+            .groupBy(PositionEvent.ENTITY)
+            .merge((pending, newer) -> new PositionEvent(newer.entity(),
+                pending.moves() + newer.moves()))
+            .build());
+
+        this.bus.publish(new PositionEvent(1, 1));
+        this.bus.publish(new PositionEvent(2, 1));
+        this.bus.publish(new PositionEvent(1, 1));
+        assertTrue(received.isEmpty(), "Coalesced events should wait for a flush");
+
+        this.bus.flush();
+        assertEquals(List.of(new PositionEvent(1, 2), new PositionEvent(2, 1)), received);
+
+        final CountDownLatch flushed = new CountDownLatch(1);
+        this.bus.subscribe(PositionEvent.class, event -> flushed.countDown());
+        this.bus.coalesce(PositionEvent.class, CoalescingConfig.<PositionEvent>coalescingConfig()
+            .window(Duration.ofMillis(10))
+            .build());
+        this.bus.publish(new PositionEvent(3, 1));
+        assertTrue(flushed.await(5, TimeUnit.SECONDS), "Window should flush pending events");
+    }
+
+    @Test
+    public void testFailingFlushesDispatchEveryCoalescedEvent() throws InterruptedException {
+        final List<PositionEvent> received = new ArrayList<>();
+        this.bus.subscribe(PositionEvent.class, event -> {
+            if (event.entity() != 3) {
+                throw new IllegalStateException("entity " + event.entity());
+            }
+            received.add(event);
+        });
+        this.bus.coalesce(PositionEvent.class, CoalescingConfig.<PositionEvent>coalescingConfig()
+            .groupBy(PositionEvent.ENTITY)
+            .build());
+        this.bus.publish(new PositionEvent(1, 1));
+        this.bus.publish(new PositionEvent(2, 1));
+        this.bus.publish(new PositionEvent(3, 1));
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+            this.bus::flush);
+        assertEquals("entity 1", exception.getMessage());
+        assertEquals(1, exception.getSuppressed().length, "Later failures should be suppressed");
+        assertEquals(List.of(new PositionEvent(3, 1)), received,
+            "Events after a failure should still be dispatched");
+
+        final Thread.UncaughtExceptionHandler handler =
+            Thread.getDefaultUncaughtExceptionHandler();
+        final CountDownLatch reported = new CountDownLatch(1);
+        Thread.setDefaultUncaughtExceptionHandler((thread, throwable) -> reported.countDown());
+        try {
+            this.bus.coalesce(PositionEvent.class,
+                CoalescingConfig.<PositionEvent>coalescingConfig()
+                    .window(Duration.ofMillis(10))
+                    .build());
+            this.bus.publish(new PositionEvent(4, 1));
+            assertTrue(reported.await(5, TimeUnit.SECONDS),
+                "Scheduled flush failures should be reported");
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+    }
+
+    @Test
+    public void testInstrumentedBusRecordsMetrics() {
+        assertTrue(this.bus.metrics().isEmpty(), "Uninstrumented buses should record nothing");
+
+        final SimpleEventBus instrumented = SimpleEventBus.create(
+            EventBusConfig.eventBusConfig().instrumented(true).build());
+        instrumented.subscribe(IntegerEvent.class, IntegerEvent::increment, 1);
+        instrumented.subscribe(Event.class, event -> {
+        });
+        instrumented.publish(new IntegerEvent(0));
+        instrumented.publishAll(IntegerEvent.class,
+            List.of(new IntegerEvent(1), new IntegerEvent(2)), BatchOrder.SUBSCRIBER_MAJOR);
+
+        final List<RegistrationMetrics> metrics = instrumented.metrics();
+        assertEquals(2, metrics.size(), "Every registration should have metrics");
+        final RegistrationMetrics integer = metrics.get(0);
+        assertEquals(3, integer.published(), "Single and batched publishes should be counted");
+        assertEquals(1, integer.subscriptions().size());
+        final SubscriptionMetrics increment = integer.subscriptions().get(0);
+        assertEquals(1, increment.priority());
+        assertEquals(3, increment.invocations());
+        assertEquals(3, Arrays.stream(increment.latencyHistogram()).sum(),
+            "Every invocation should fall into a latency bucket");
+        assertTrue(increment.percentileNanos(100) >= increment.percentileNanos(50));
+        increment.latencyHistogram()[0] = -1;
+        assertEquals(3, Arrays.stream(increment.latencyHistogram()).sum(),
+            "Snapshots should not be modifiable through their histogram");
+
+        final RegistrationMetrics event = metrics.get(1);
+        assertEquals(0, event.published(), "Only exact publishes should be counted");
+        assertEquals(3, event.subscriptions().get(0).invocations(),
+            "Supertype subscribers should count subtype events");
+    }
+
+    @Test
+    public void testFlightRecorderEvents() throws IOException {
+        this.bus.subscribe(IntegerEvent.class, event -> event.cancelled(true), 3);
+        this.bus.publish(new IntegerEvent(0));
+
+        final Path dump = Files.createTempFile("event-bus", ".jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable("com.nayrid.event.Publish");
+            recording.enable("com.nayrid.event.Handle");
+            recording.start();
+            this.bus.publish(new IntegerEvent(1));
+            recording.stop();
+            recording.dump(dump);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            final RecordedEvent publish = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.nayrid.event.Publish"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Publish should be recorded"));
+            assertEquals("nayrid:integer", publish.getString("key"));
+            assertTrue(publish.getBoolean("cancelled"));
+            final RecordedEvent handle = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.nayrid.event.Handle"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Handle should be recorded"));
+            assertEquals(3, handle.getInt("priority"));
+            assertEquals(EventStage.HANDLE.name(), handle.getString("stage"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Test
+    public void testErrorPoliciesAndDeadLetters() {
+        final List<Event> deadLetters = new ArrayList<>();
+        final SimpleEventBus collecting = SimpleEventBus.create(EventBusConfig.eventBusConfig()
+            .errorPolicy(ErrorPolicy.COLLECT)
+            .deadLetters(deadLetters::add)
+            .build());
+        final List<Integer> handled = new ArrayList<>();
+        collecting.subscribe(IntegerEvent.class, event -> {
+            throw new IllegalStateException("first");
+        }, 3);
+        collecting.subscribe(IntegerEvent.class, event -> handled.add(event.get()), 2);
+        collecting.subscribe(IntegerEvent.class, event -> {
+            throw new IllegalArgumentException("second");
+        }, 1);
+        collecting.subscribe(IntegerEvent.class, event -> handled.add(-event.get()));
+
+        final EventDispatchException exception = assertThrows(EventDispatchException.class,
+            () -> collecting.publish(new IntegerEvent(7)));
+        assertEquals(List.of(-7, 7), handled, "Every subscriber should handle the event");
+        assertEquals(2, exception.failures().size());
+        assertEquals("second", exception.getCause().getMessage());
+        assertEquals("first", exception.getSuppressed()[0].getMessage());
+
+        final PositionEvent unhandled = new PositionEvent(1, 1);
+        collecting.publish(unhandled);
+        assertEquals(List.of(unhandled), deadLetters,
+            "Events without subscriptions should be dead letters");
+
+        final SimpleEventBus logging = SimpleEventBus.create(EventBusConfig.eventBusConfig()
+            .errorPolicy(ErrorPolicy.LOG)
+            .build());
+        logging.subscribe(PositionEvent.class, event -> {
+            throw new IllegalStateException("logged");
+        }, -1, false, SubscriptionOptions.<PositionEvent>subscriptionOptions()
+            .where(PositionEvent.ENTITY, 1)
+            .build());
+        logging.subscribe(PositionEvent.class, event -> handled.add(event.moves()));
+        assertDoesNotThrow(() -> logging.publish(new PositionEvent(1, 5)));
+        assertEquals(List.of(-7, 7, 5), handled, "Subscribers after a failure should still run");
+
+        assertThrows(IllegalStateException.class, () -> {
+            this.bus.subscribe(IntegerEvent.class, event -> {
+                throw new IllegalStateException("propagated");
+            });
+            this.bus.publish(new IntegerEvent(0));
+        });
+    }
+
+    @Test
+    public void testPooledEventsAreReleasedAfterDispatch() {
+        assertThrows(IllegalStateException.class, () -> this.bus.acquire(IntegerEvent.class),
+            "Unpooled events should not be acquired");
+        this.bus.pool(IntegerEvent.class, PoolingConfig.<IntegerEvent>poolingConfig()
+            .factory(() -> new IntegerEvent(0))
+            .reset(IntegerEvent::reset)
+            .capacity(1)
+            .build());
+        this.bus.subscribe(IntegerEvent.class, event -> event.cancelled(true));
+
+        final IntegerEvent first = this.bus.acquire(IntegerEvent.class);
+        first.increment();
+        assertFalse(this.bus.publish(first), "Cancellation should be readable after publish");
+        assertEquals(0, first.get(), "Released events should be reset");
+
+        final IntegerEvent second = this.bus.acquire(IntegerEvent.class);
+        assertSame(first, second, "Released events should be reused");
+        assertFalse(second.cancelled(), "Acquired events should not be cancelled");
+        assertNotSame(second, this.bus.acquire(IntegerEvent.class),
+            "An empty pool should create events");
+
+        this.bus.pool(PositionEvent.class, PoolingConfig.<PositionEvent>poolingConfig()
+            .factory(() -> new PositionEvent(0, 0))
+            .build());
+        assertThrows(IllegalStateException.class, () -> this.bus.coalesce(PositionEvent.class,
+            CoalescingConfig.<PositionEvent>coalescingConfig().build()),
+            "Pooled events should not be coalesced");
+    }
+
+    @Test
+    public void testWeakSubscriptionsEndOnceCollected() throws InterruptedException {
+        final SubscriptionOptions<IntegerEvent> weak = SubscriptionOptions
+            .<IntegerEvent>subscriptionOptions()
+            .weak(true)
+            .build();
+        final List<String> handled = new ArrayList<>();
+        final EventSubscriber<IntegerEvent> kept = event -> handled.add("kept");
+        this.bus.subscribe(IntegerEvent.class, kept, 0, false, weak);
+        this.bus.subscribe(IntegerEvent.class, event -> handled.add("dropped"), 0, false, weak);
+        final EventRegistration<IntegerEvent> registration = this.bus.getOrCreateRegistration(
+            IntegerEvent.class);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (registration.subscribers().size() > 1) {
+            if (System.nanoTime() > deadline) {
+                fail("Collected weak subscribers should be unsubscribed");
+            }
+            System.gc();
+            Thread.sleep(10);
+        }
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(List.of("kept"), handled, "Reachable weak subscribers should be called");
+
+        this.bus.unsubscribe(IntegerEvent.class, kept);
+        assertTrue(registration.subscribers().isEmpty(),
+            "Weak subscribers should be unsubscribed like strong ones");
+    }
+
+    @Test
+    public void testUnsubscribingRemovesStrongAndWeakSubscriptions() {
+        final List<String> handled = new ArrayList<>();
+        final EventSubscriber<IntegerEvent> subscriber = event -> handled.add("handled");
+        this.bus.subscribe(IntegerEvent.class, subscriber);
+        this.bus.subscribe(IntegerEvent.class, subscriber, 1, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .weak(true)
+                .build());
+        final EventSubscriber<IntegerEvent> other = event -> handled.add("other");
+        this.bus.subscribe(IntegerEvent.class, other, 2, false,
+            SubscriptionOptions.<IntegerEvent>subscriptionOptions()
+                .weak(true)
+                .build());
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(3, handled.size());
+
+        this.bus.unsubscribe(IntegerEvent.class, subscriber);
+        assertEquals(1, this.bus.getOrCreateRegistration(IntegerEvent.class).subscribers().size(),
+            "Both the strong and the weak subscription should be removed");
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(List.of("handled", "handled", "other", "other"), handled);
+
+        this.bus.unsubscribe(IntegerEvent.class, other);
+        assertTrue(this.bus.getOrCreateRegistration(IntegerEvent.class).subscribers().isEmpty(),
+            "Other weak subscriptions should be removed by their own subscriber");
+    }
+
+    @Test
+    public void testRemovedSubscriptionsAreNotRetained() throws InterruptedException {
+        final List<String> handled = new ArrayList<>();
+        final EventSubscriber<IntegerEvent> kept = event -> handled.add("kept");
+        final WeakReference<EventSubscriber<IntegerEvent>> removed = this.subscribeAndRemove(
+            kept, handled);
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (removed.get() != null) {
+            if (System.nanoTime() > deadline) {
+                fail("Removed subscribers should not be retained by their registration");
+            }
+            System.gc();
+            Thread.sleep(10);
+        }
+        this.bus.publish(new IntegerEvent(0));
+        assertEquals(List.of("kept"), handled);
+    }
+
+    private WeakReference<EventSubscriber<IntegerEvent>> subscribeAndRemove(
+        final EventSubscriber<IntegerEvent> kept, final List<String> handled) {
+        final EventSubscriber<IntegerEvent> removed = event -> handled.add("removed");
+        this.bus.subscribe(IntegerEvent.class, removed);
+        // the same stage and priority, so that it becomes the tail the removed one was
+        this.bus.subscribe(IntegerEvent.class, kept);
+        this.bus.unsubscribe(IntegerEvent.class, removed);
+        return new WeakReference<>(removed);
+    }
+
+    @Test
+    public void testPublishingWithoutSubscribers() {
+        assertFalse(this.bus.hasSubscribers(PositionEvent.class),
+            "Nothing should subscribe to a new event type");
+        this.bus.publish(new PositionEvent(0, 0));
+        this.bus.publish(PositionEvent.class,
+            () -> fail("Events nobody subscribed to should not be created"));
+        assertNull(this.bus.get(PositionEvent.class),
+            "Publishing should not create a registration");
+
+        final List<PositionEvent> handled = new ArrayList<>();
+        final EventSubscriber<PositionEvent> subscriber = handled::add;
+        this.bus.subscribe(PositionEvent.class, subscriber);
+        assertTrue(this.bus.hasSubscribers(PositionEvent.class),
+            "Subscribing should be visible to an already published type");
+        this.bus.publish(PositionEvent.class, () -> new PositionEvent(1, 2));
+        assertEquals(1, handled.size(), "Supplied events should be published");
+
+        this.bus.unsubscribe(PositionEvent.class, subscriber);
+        assertFalse(this.bus.hasSubscribers(PositionEvent.class),
+            "Unsubscribing the last subscriber should be visible");
+    }
+
+    @Test
+    public void testSnapshotsAgreeAfterConcurrentChurn() throws InterruptedException {
+        final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        this.bus.subscribe(PositionEvent.class, event -> handled.add("kept"));
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 2_000; j++) {
+                    final EventSubscriber<PositionEvent> churned = event -> {
+                    };
+                    this.bus.subscribe(PositionEvent.class, churned);
+                    this.bus.publish(new PositionEvent(0, j));
+                    this.bus.unsubscribe(PositionEvent.class, churned);
+                    this.bus.publishAll(PositionEvent.class, List.of(new PositionEvent(0, j)),
+                        BatchOrder.SUBSCRIBER_MAJOR);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        handled.clear();
+        this.bus.publish(new PositionEvent(0, 0));
+        this.bus.publishAll(PositionEvent.class, List.of(new PositionEvent(0, 0)),
+            BatchOrder.SUBSCRIBER_MAJOR);
+        assertEquals(List.of("kept", "kept"), handled,
+            "Publishing and batches should see the same subscribers once churn settled");
+    }
+
+    @Test
+    public void testRegistrationIds() {
+        final EventRegistration<IntegerEvent> integer = this.bus.getOrCreateRegistration(
+            IntegerEvent.class);
+        final EventRegistration<Event> event = this.bus.getOrCreateRegistration(Event.class);
+
+        assertNotEquals(integer.id(), event.id(), "Registrations should get distinct ids");
+        assertSame(integer, this.bus.get(integer.id()));
+        assertSame(integer, this.bus.get(integer.key()));
+        assertSame(event, this.bus.get(event.id()));
+        assertNull(this.bus.get(event.id() + 1), "Unassigned ids should not resolve");
+        assertNull(this.bus.get(-1), "Negative ids should not resolve");
+    }
+
+    public static class IntegerListener {
+
+        final List<String> received = new ArrayList<>();
+
+        @Subscribe(priority = 1, acceptsCancelled = true)
+        private void onEvent(final Event event) {
+            this.received.add("event " + ((IntegerEvent) event).get());
+        }
+
+        @Subscribe
+        public void onInteger(final IntegerEvent event) {
+            this.received.add("cancel " + event.get());
+            event.cancelled(true);
+        }
+
+        @Subscribe(priority = 2)
+        boolean onCancelledInteger(final IntegerEvent event) {
+            return this.received.add("cancelled " + event.get());
+        }
+
+    }
+
+    @AnnoKey(namespace = SimpleEventBusTests.NAMESPACE, value = "position")
+    public record PositionEvent(int entity, int moves) implements Event {
+
+        static final EventProperty<PositionEvent, Integer> ENTITY = EventProperty.property(
+            PositionEvent::entity);
+
+    }
+
     @AnnoKey(namespace = SimpleEventBusTests.NAMESPACE, value = "integer")
     public static final class IntegerEvent implements CancellableEvent {
 
@@ -133,6 +791,10 @@ public class SimpleEventBusTests {
             this.integer++;
         }
 
+        public void reset() {
+            this.integer = 0;
+        }
+
     }
 
 }
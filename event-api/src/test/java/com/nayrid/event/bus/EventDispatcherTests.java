@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.bus;
+
+import com.nayrid.event.SimpleEventBusTests.PositionEvent;
+import com.nayrid.event.bus.subscription.EventSubscriber;
+import com.nayrid.event.bus.subscription.EventSubscription;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@NullMarked
+public class EventDispatcherTests {
+
+    @Test
+    public void testLinkingFallsBackToLoopsOnceTheBudgetIsSpent() {
+        final AtomicInteger budget = new AtomicInteger(3);
+        final EventDispatcher.Linker first = new EventDispatcher.Linker(budget);
+        final EventDispatcher.Linker second = new EventDispatcher.Linker(budget);
+        final List<String> handled = new ArrayList<>();
+
+        final EventDispatcher<PositionEvent> linked = first.link(
+            subscriptions(handled, "a", "b"), false);
+        assertTrue(linked.getClass().isHidden(), "Chains within the budget should be linked");
+        assertEquals(1, budget.get());
+
+        final EventDispatcher<PositionEvent> fallback = second.link(
+            subscriptions(handled, "c", "d"), false);
+        assertFalse(fallback.getClass().isHidden(),
+            "Chains exceeding the budget should fall back to a loop");
+        assertEquals(1, budget.get(), "A chain falling back should not spend the budget");
+        fallback.dispatch(new PositionEvent(0, 0));
+        assertEquals(List.of("c", "d"), handled);
+
+        final EventDispatcher<PositionEvent> relinked = first.link(
+            subscriptions(handled, "e", "f"), false);
+        assertTrue(relinked.getClass().isHidden(),
+            "Chains fitting the classes a linker already defined should stay linked");
+        relinked.dispatch(new PositionEvent(0, 0));
+        assertEquals(List.of("c", "d", "e", "f"), handled);
+    }
+
+    private static List<EventSubscription<PositionEvent>> subscriptions(
+        final List<String> handled, final String... names) {
+        final List<EventSubscription<PositionEvent>> subscriptions = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            final String name = names[i];
+            subscriptions.add(new Subscription(i, event -> handled.add(name)));
+        }
+        return subscriptions;
+    }
+
+    private record Subscription(int priority, EventSubscriber<PositionEvent> subscriber)
+        implements EventSubscription<PositionEvent> {
+
+        @Override
+        public boolean acceptsCancelled() {
+            return true;
+        }
+
+    }
+
+}
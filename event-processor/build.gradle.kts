@@ -0,0 +1,10 @@
+plugins {
+    id("event.base-conventions")
+}
+
+dependencies {
+    implementation(platform(libs.adventure.bom))
+    implementation("net.kyori:adventure-key")
+
+    testImplementation(project(":event-api"))
+}
@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates the index of {@code @AnnoKey} event types and {@code @Subscribe} listener methods
+ * read by {@code AnnotationIndex}, and reports invalid keys and listener methods as compile
+ * errors.
+ *
+ * <p>The index is written to the {@value #INDEX_RESOURCE} resource, so that the indexes of
+ * several jars are merged by their class loader.</p>
+ *
+ * @since 1.0.0
+ */
+@NullMarked
+public final class EventAnnotationProcessor extends AbstractProcessor {
+
+    /**
+     * The path of the generated index.
+     *
+     * @since 1.0.0
+     */
+    public static final String INDEX_RESOURCE = "META-INF/nayrid/event-index";
+
+    private static final String ANNO_KEY = "com.nayrid.event.annotation.AnnoKey";
+    private static final String SUBSCRIBE = "com.nayrid.event.annotation.Subscribe";
+    private static final String EVENT = "com.nayrid.event.Event";
+
+    // sorted, so that the index is reproducible
+    private final Map<String, String> keys = new TreeMap<>();
+    private final Map<String, List<String>> listeners = new TreeMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ANNO_KEY, SUBSCRIBE);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+        final RoundEnvironment round) {
+        if (round.processingOver()) {
+            if (!this.keys.isEmpty() || !this.listeners.isEmpty()) {
+                this.writeIndex();
+            }
+            return false;
+        }
+        final TypeElement annoKey = this.processingEnv.getElementUtils().getTypeElement(ANNO_KEY);
+        if (annoKey != null) {
+            for (final Element element : round.getElementsAnnotatedWith(annoKey)) {
+                this.processKey(element);
+            }
+        }
+        final TypeElement subscribe = this.processingEnv.getElementUtils()
+            .getTypeElement(SUBSCRIBE);
+        if (subscribe != null) {
+            final Set<TypeElement> listenerTypes = new HashSet<>();
+            for (final Element element : round.getElementsAnnotatedWith(subscribe)) {
+                if (this.validListenerMethod((ExecutableElement) element)) {
+                    listenerTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+            for (final TypeElement type : listenerTypes) {
+                this.listeners.put(this.binaryName(type), this.listenerMethods(type));
+            }
+        }
+        return false;
+    }
+
+    private void processKey(final Element element) {
+        final AnnotationMirror mirror = this.mirror(element, ANNO_KEY);
+        if (mirror == null) {
+            return;
+        }
+        final String namespace = (String) this.value(mirror, "namespace");
+        final String value = (String) this.value(mirror, "value");
+        final OptionalInt invalidNamespace = Key.checkNamespace(namespace);
+        final OptionalInt invalidValue = Key.checkValue(value);
+        if (invalidNamespace.isPresent()) {
+            this.error(element, mirror, "Invalid key namespace '" + namespace
+                + "', illegal character at index " + invalidNamespace.getAsInt());
+        } else if (invalidValue.isPresent()) {
+            this.error(element, mirror, "Invalid key value '" + value
+                + "', illegal character at index " + invalidValue.getAsInt());
+        } else if (element instanceof TypeElement type) {
+            this.keys.put(this.binaryName(type), namespace + " " + value);
+        }
+    }
+
+    private boolean validListenerMethod(final ExecutableElement method) {
+        final TypeElement event = this.processingEnv.getElementUtils().getTypeElement(EVENT);
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            this.error(method, this.mirror(method, SUBSCRIBE), "@Subscribe method must not be static");
+            return false;
+        }
+        if (method.getParameters().size() != 1 || event != null
+            && !this.processingEnv.getTypeUtils().isAssignable(
+            this.processingEnv.getTypeUtils().erasure(method.getParameters().getFirst().asType()),
+            this.processingEnv.getTypeUtils().erasure(event.asType()))) {
+            this.error(method, this.mirror(method, SUBSCRIBE),
+                "@Subscribe method must take a single event");
+            return false;
+        }
+        return true;
+    }
+
+    // mirrors the runtime scan: declared methods of the class and its superclasses, where a
+    // method hides every method with the same name and parameters further up
+    private List<String> listenerMethods(final TypeElement type) {
+        final String listener = this.binaryName(type);
+        final List<String> methods = new ArrayList<>();
+        final Set<String> seen = new HashSet<>();
+        for (TypeElement current = type; current != null
+            && !current.getQualifiedName().contentEquals("java.lang.Object");
+            current = this.superclass(current)) {
+            for (final ExecutableElement method
+                : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                final String descriptor = this.descriptor(method);
+                if (!seen.add(method.getSimpleName() + descriptor.substring(0,
+                    descriptor.indexOf(')') + 1))) {
+                    continue;
+                }
+                final AnnotationMirror subscribe = this.mirror(method, SUBSCRIBE);
+                if (subscribe != null && !method.getModifiers().contains(Modifier.STATIC)
+                    && method.getParameters().size() == 1) {
+                    methods.add(String.join(" ", "listener", listener, this.binaryName(current),
+                        method.getSimpleName(), descriptor,
+                        String.valueOf(this.value(subscribe, "priority")),
+                        String.valueOf(this.value(subscribe, "acceptsCancelled")),
+                        ((VariableElement) this.value(subscribe, "stage")).getSimpleName()));
+                }
+            }
+        }
+        return methods;
+    }
+
+    private @Nullable TypeElement superclass(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+            ? (TypeElement) ((DeclaredType) superclass).asElement()
+            : null;
+    }
+
+    private void writeIndex() {
+        try (Writer writer = this.processingEnv.getFiler()
+            .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE)
+            .openWriter()) {
+            writer.write("# generated by " + EventAnnotationProcessor.class.getName() + "\n");
+            for (final Map.Entry<String, String> key : this.keys.entrySet()) {
+                writer.write("key " + key.getKey() + " " + key.getValue() + "\n");
+            }
+            for (final List<String> methods : this.listeners.values()) {
+                for (final String method : methods) {
+                    writer.write(method + "\n");
+                }
+            }
+        } catch (final IOException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not write " + INDEX_RESOURCE + ": " + exception.getMessage());
+        }
+    }
+
+    private String descriptor(final ExecutableElement method) {
+        final StringBuilder builder = new StringBuilder("(");
+        for (final VariableElement parameter : method.getParameters()) {
+            builder.append(this.descriptor(parameter.asType()));
+        }
+        return builder.append(')').append(this.descriptor(method.getReturnType())).toString();
+    }
+
+    private String descriptor(final TypeMirror type) {
+        final TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case CHAR -> "C";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case VOID -> "V";
+            case ARRAY -> "[" + this.descriptor(((ArrayType) erased).getComponentType());
+            case DECLARED -> "L" + this.binaryName(
+                (TypeElement) ((DeclaredType) erased).asElement()).replace('.', '/') + ";";
+            default -> throw new IllegalArgumentException("Unexpected type: " + type);
+        };
+    }
+
+    private String binaryName(final TypeElement type) {
+        return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private @Nullable AnnotationMirror mirror(final Element element, final String annotation) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                .contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(final AnnotationMirror mirror, final String name) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+            : this.processingEnv.getElementUtils().getElementValuesWithDefaults(mirror)
+            .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException("Missing annotation value: " + name);
+    }
+
+    private void error(final Element element, final @Nullable AnnotationMirror mirror,
+        final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element,
+            mirror);
+    }
+
+}
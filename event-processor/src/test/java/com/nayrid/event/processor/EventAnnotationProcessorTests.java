@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) nayrid.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.nayrid.event.processor;
+
+import com.nayrid.event.annotation.AnnotationIndex;
+import com.nayrid.event.annotation.AnnotationIndex.IndexedListener;
+import com.nayrid.event.bus.subscription.EventStage;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@NullMarked
+public class EventAnnotationProcessorTests {
+
+    private static final Map<String, String> SOURCES = Map.of(
+        "sample.SampleEvent", """
+            package sample;
+
+            import com.nayrid.event.Event;
+            import com.nayrid.event.annotation.AnnoKey;
+
+            @AnnoKey(namespace = "sample", value = "event")
+            public final class SampleEvent implements Event {
+            }
+            """,
+        "sample.BaseListener", """
+            package sample;
+
+            import com.nayrid.event.annotation.Subscribe;
+
+            public class BaseListener {
+
+                @Subscribe(priority = 3)
+                public void onEvent(final SampleEvent event) {
+                }
+
+                @Subscribe
+                public void onHidden(final SampleEvent event) {
+                }
+
+            }
+            """,
+        "sample.SampleListener", """
+            package sample;
+
+            import com.nayrid.event.annotation.Subscribe;
+            import com.nayrid.event.bus.subscription.EventStage;
+
+            public class SampleListener extends BaseListener {
+
+                @Subscribe(acceptsCancelled = true, stage = EventStage.FILTER)
+                void onFiltered(final SampleEvent event) {
+                }
+
+                @Override
+                public void onHidden(final SampleEvent event) {
+                }
+
+            }
+            """);
+
+    @Test
+    public void testGeneratesIndex() throws IOException {
+        final Compilation compilation = compile(SOURCES);
+        assertTrue(compilation.success(), "Valid sources should compile: "
+            + compilation.diagnostics());
+
+        assertEquals(List.of(
+            "# generated by " + EventAnnotationProcessor.class.getName(),
+            "key sample.SampleEvent sample event",
+            "listener sample.BaseListener sample.BaseListener onEvent (Lsample/SampleEvent;)V 3 "
+                + "false HANDLE",
+            "listener sample.BaseListener sample.BaseListener onHidden (Lsample/SampleEvent;)V 0 "
+                + "false HANDLE",
+            "listener sample.SampleListener sample.SampleListener onFiltered "
+                + "(Lsample/SampleEvent;)V 0 true FILTER",
+            "listener sample.SampleListener sample.BaseListener onEvent (Lsample/SampleEvent;)V 3 "
+                + "false HANDLE"
+        ), Files.readAllLines(compilation.output().resolve(
+            EventAnnotationProcessor.INDEX_RESOURCE), StandardCharsets.UTF_8),
+            "Overridden methods should hide their annotated supermethods");
+    }
+
+    @Test
+    public void testGeneratedIndexIsReadAtRuntime() throws Exception {
+        final Compilation compilation = compile(SOURCES);
+        assertTrue(compilation.success(), "Valid sources should compile: "
+            + compilation.diagnostics());
+
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[] {compilation.output().toUri().toURL()},
+            EventAnnotationProcessorTests.class.getClassLoader())) {
+            final Class<?> event = loader.loadClass("sample.SampleEvent");
+            final Class<?> listener = loader.loadClass("sample.SampleListener");
+            final AnnotationIndex index = AnnotationIndex.of(listener);
+            assertEquals(Key.key("sample", "event"), index.key(event),
+                "Indexed keys should be read");
+            final List<IndexedListener> methods = index.listeners(listener);
+            assertNotNull(methods, "Indexed listeners should be read");
+            assertEquals(List.of(
+                new IndexedListener("sample.SampleListener", "onFiltered",
+                    "(Lsample/SampleEvent;)V", 0, true, EventStage.FILTER),
+                new IndexedListener("sample.BaseListener", "onEvent", "(Lsample/SampleEvent;)V",
+                    3, false, EventStage.HANDLE)
+            ), methods);
+        }
+    }
+
+    @Test
+    public void testRejectsInvalidKeysAndListenerMethods() throws IOException {
+        final Compilation compilation = compile(Map.of(
+            "sample.InvalidEvent", """
+                package sample;
+
+                import com.nayrid.event.Event;
+                import com.nayrid.event.annotation.AnnoKey;
+
+                @AnnoKey(namespace = "sample", value = "Invalid")
+                public final class InvalidEvent implements Event {
+                }
+                """,
+            "sample.InvalidListener", """
+                package sample;
+
+                import com.nayrid.event.annotation.Subscribe;
+
+                public class InvalidListener {
+
+                    @Subscribe
+                    public static void onStatic(final InvalidEvent event) {
+                    }
+
+                    @Subscribe
+                    public void onString(final String event) {
+                    }
+
+                }
+                """));
+        assertFalse(compilation.success(), "Invalid sources should not compile");
+        assertEquals(List.of(
+            "Invalid key value 'Invalid', illegal character at index 0",
+            "@Subscribe method must not be static",
+            "@Subscribe method must take a single event"
+        ), compilation.errors());
+        assertFalse(Files.exists(compilation.output().resolve(
+            EventAnnotationProcessor.INDEX_RESOURCE)), "Invalid listeners should not be indexed");
+    }
+
+    private static Compilation compile(final Map<String, String> sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final Path output = Files.createTempDirectory("event-processor");
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null,
+            StandardCharsets.UTF_8)) {
+            files.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            final List<JavaFileObject> units = new ArrayList<>();
+            sources.forEach((name, source) -> units.add(new Source(name, source)));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                List.of("-classpath", System.getProperty("java.class.path")), null, units);
+            task.setProcessors(List.of(new EventAnnotationProcessor()));
+            return new Compilation(task.call(), diagnostics.getDiagnostics(), output);
+        }
+    }
+
+    private record Compilation(boolean success,
+                               List<Diagnostic<? extends JavaFileObject>> diagnostics,
+                               Path output) {
+
+        List<String> errors() {
+            final List<String> errors = new ArrayList<>();
+            for (final Diagnostic<? extends JavaFileObject> diagnostic : this.diagnostics) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+            return errors;
+        }
+
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String source;
+
+        Source(final String name, final String source) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension),
+                Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+
+    }
+
+}
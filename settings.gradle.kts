@@ -25,6 +25,7 @@ rootProject.name = "event"
 
 sequenceOf(
     "api",
+    "processor",
 ).forEach {
     include("${rootProject.name}-$it")
     project(":${rootProject.name}-$it").projectDir = file("${rootProject.name}-$it")